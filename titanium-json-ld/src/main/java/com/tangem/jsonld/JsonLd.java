@@ -26,6 +26,7 @@ import com.tangem.jsonld.api.impl.ExpansionApi;
 import com.tangem.jsonld.api.impl.FlatteningApi;
 import com.tangem.jsonld.api.impl.FramingApi;
 import com.tangem.jsonld.api.impl.FromRdfApi;
+import com.tangem.jsonld.api.impl.PreparedCompactionApi;
 import com.tangem.jsonld.api.impl.ToRdfApi;
 import com.tangem.jsonld.document.Document;
 import com.tangem.jsonld.uri.UriUtils;
@@ -167,6 +168,45 @@ public final class JsonLd {
         return new CompactionApi(document, context);
     }
 
+    /**
+     * Processes the context once to compact many documents with it.
+     * 
+     * @param contextLocation {@code IRI} referencing the context to use when compacting documents
+     * @return {@link PreparedCompactionApi} allowing to set additional parameters 
+     */
+    public static final PreparedCompactionApi prepareCompaction(final String contextLocation) {
+        
+        assertLocation(contextLocation, "contextLocation");
+        
+        return prepareCompaction(UriUtils.create(contextLocation));
+    }
+
+    /**
+     * Processes the context once to compact many documents with it.
+     * 
+     * @param contextUri {@link URI} referencing the context to use when compacting documents
+     * @return {@link PreparedCompactionApi} allowing to set additional parameters 
+     */
+    public static final PreparedCompactionApi prepareCompaction(final URI contextUri) {
+        
+        assertUri(contextUri, "contextUri");
+        
+        return new PreparedCompactionApi(contextUri);
+    }
+
+    /**
+     * Processes the context once to compact many documents with it.
+     * 
+     * @param context JSON-LD document 
+     * @return {@link PreparedCompactionApi} allowing to set additional parameters 
+     */
+    public static final PreparedCompactionApi prepareCompaction(final Document context) {
+        
+        assertJsonDocument(context, CONTEXT_PARAM_NAME);
+        
+        return new PreparedCompactionApi(context);
+    }
+
     /**
      * Flattens the given input and optionally compacts it using context.
      * 
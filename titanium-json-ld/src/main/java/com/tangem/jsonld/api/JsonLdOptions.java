@@ -17,12 +17,12 @@ package com.tangem.jsonld.api;
 
 import java.net.URI;
 
-import javax.json.Json;
 import javax.json.JsonObject;
 
 import com.tangem.jsonld.api.JsonLdEmbed;
 import com.tangem.jsonld.document.Document;
 import com.tangem.jsonld.document.JsonDocument;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.lang.Version;
 import com.tangem.jsonld.loader.DocumentLoader;
 import com.tangem.jsonld.loader.SchemeRouter;
@@ -77,6 +77,10 @@ public final class JsonLdOptions {
     private boolean extractAllScripts;
     
     private boolean ordered;
+
+    private boolean parallelExpansion;
+
+    private boolean parallelRdfConversion;
     
     private Version processingMode;
     
@@ -114,6 +118,8 @@ public final class JsonLdOptions {
         this.expandContext = null;
         this.extractAllScripts = false;
         this.ordered = false;
+        this.parallelExpansion = false;
+        this.parallelRdfConversion = false;
         this.processingMode = Version.V1_1;
         this.produceGeneralizedRdf = true;
         this.rdfDirection = null;
@@ -136,6 +142,8 @@ public final class JsonLdOptions {
         this.expandContext = options.expandContext;
         this.extractAllScripts = options.extractAllScripts;
         this.ordered = options.ordered;
+        this.parallelExpansion = options.parallelExpansion;
+        this.parallelRdfConversion = options.parallelRdfConversion;
         this.processingMode = options.processingMode;
         this.produceGeneralizedRdf = options.produceGeneralizedRdf;
         this.rdfDirection = options.rdfDirection;
@@ -223,6 +231,29 @@ public final class JsonLdOptions {
         return ordered;
     }
 
+    /**
+     * If set to <code>true</code>, members of large top-level and <code>@graph</code>
+     * arrays are expanded in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The result is the same as of sequential expansion, the document loader must be
+     * thread-safe if the members reference remote contexts.
+     * 
+     * @return <code>true</code> if parallel expansion is enabled
+     */
+    public boolean isParallelExpansion() {
+        return parallelExpansion;
+    }
+
+    /**
+     * If set to <code>true</code>, graphs and large sets of subjects are converted
+     * to RDF in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The result is the same as of sequential conversion.
+     * 
+     * @return <code>true</code> if parallel conversion to RDF is enabled
+     */
+    public boolean isParallelRdfConversion() {
+        return parallelRdfConversion;
+    }
+
     public Version getProcessingMode() {
         return processingMode;
     }
@@ -271,6 +302,14 @@ public final class JsonLdOptions {
         this.ordered = ordered;
     }
 
+    public void setParallelExpansion(boolean parallelExpansion) {
+        this.parallelExpansion = parallelExpansion;
+    }
+
+    public void setParallelRdfConversion(boolean parallelRdfConversion) {
+        this.parallelRdfConversion = parallelRdfConversion;
+    }
+
     public void setProcessingMode(Version processingMode) {
         this.processingMode = processingMode;
     }
@@ -298,8 +337,8 @@ public final class JsonLdOptions {
             return;
         }
         this.expandContext = JsonDocument.of(
-                Json.createArrayBuilder()
-                    .add(Json.createValue(contextLocation)).build());
+                JsonBackend.createArrayBuilder()
+                    .add(JsonBackend.createValue(contextLocation)).build());
     }
     
     public void setExpandContext(URI contextUri) {
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.api.impl;
+
+import java.net.URI;
+
+import com.tangem.jsonld.api.JsonLdError;
+import com.tangem.jsonld.api.JsonLdErrorCode;
+import com.tangem.jsonld.api.JsonLdOptions;
+import com.tangem.jsonld.document.Document;
+import com.tangem.jsonld.lang.Version;
+import com.tangem.jsonld.loader.DocumentLoader;
+import com.tangem.jsonld.loader.DocumentLoaderOptions;
+import com.tangem.jsonld.processor.CompactionProcessor;
+import com.tangem.jsonld.processor.PreparedCompaction;
+import com.tangem.jsonld.uri.UriUtils;
+
+public final class PreparedCompactionApi implements CommonApi<PreparedCompactionApi>, LoaderApi<PreparedCompactionApi> {
+
+    // required
+    private final Document context;
+    private final URI contextUri;
+    
+    // optional
+    private JsonLdOptions options;
+    
+    public PreparedCompactionApi(URI contextUri) {
+        this.context = null;
+        this.contextUri = contextUri;
+        this.options = new JsonLdOptions();
+    }
+
+    public PreparedCompactionApi(Document context) {
+        this.context = context;
+        this.contextUri = null;
+        this.options = new JsonLdOptions();
+    }
+
+    @Override
+    public PreparedCompactionApi options(JsonLdOptions options) {
+        
+        if (options == null) {
+            throw new IllegalArgumentException("Parameter 'options' is null.");
+        }
+        
+        this.options = options;
+        return this;
+    }
+
+    @Override
+    public PreparedCompactionApi mode(Version processingMode) {
+        options.setProcessingMode(processingMode);
+        return this;
+    }
+
+    @Override
+    public PreparedCompactionApi base(URI baseUri) {        
+        options.setBase(baseUri);
+        return this;
+    }
+
+    @Override
+    public PreparedCompactionApi base(String baseUri) {
+        return base(baseUri != null ? UriUtils.create(baseUri) : null);
+    }
+
+    /**
+     * If set to <code>true</code>, the processor replaces arrays with just one
+     * element  If set to false, all arrays will remain arrays even if they have just one
+     * element. <code>true</code> by default.
+     *
+     * @param enable 
+     * @return builder instance
+     */
+    public PreparedCompactionApi compactArrays(boolean enable) {
+        options.setCompactArrays(enable);
+        return this;
+    }
+
+    /**
+     * The processor replaces arrays with just one element. 
+     * 
+     * @return builder instance
+     */
+    public PreparedCompactionApi compactArrays() {
+        return compactArrays(true);
+    }
+    
+    /**
+     * Determines if IRIs are compacted relative to the {@link #base(URI)} or document location. 
+     * <code>true</code> by default.
+     * 
+     * @param enable
+     * @return builder instance
+     */
+    public PreparedCompactionApi compactToRelative(boolean enable) {
+        options.setCompactToRelative(enable);
+        return this;
+    }
+
+    /**
+     * IRIs are compacted relative to the {@link #base(URI)} or document location. 
+     * 
+     * @return builder instance
+     */
+    public PreparedCompactionApi compactToRelative() {
+        return compactToRelative(true);
+    }
+    
+    @Override
+    public PreparedCompactionApi loader(DocumentLoader loader) {
+        options.setDocumentLoader(loader);
+        return this;
+    }
+    
+    @Override
+    public PreparedCompactionApi ordered(boolean enable) {
+        options.setOrdered(enable);
+        return this;
+    }
+
+    @Override
+    public PreparedCompactionApi ordered() {
+        return ordered(true);
+    }
+
+    /**
+     * Process the context. The options set so far are captured by the result.
+     * 
+     * @return {@link PreparedCompaction} compacting documents with the context
+     * @throws JsonLdError
+     */
+    public PreparedCompaction get() throws JsonLdError {
+        if (context != null) {
+            return CompactionProcessor.prepare(context, options);
+        }
+        if (contextUri != null) {
+            
+            if (options.getDocumentLoader() == null) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Document loader is null. Cannot fetch [" + contextUri + "].");
+            }
+            
+            final Document contextDocument = options.getDocumentLoader().loadDocument(contextUri, new DocumentLoaderOptions());
+
+            if (contextDocument == null) {
+                throw new JsonLdError(JsonLdErrorCode.INVALID_REMOTE_CONTEXT, "Context[" + contextUri + "] is null.");
+            }
+            
+            return CompactionProcessor.prepare(contextDocument, options);
+        }
+        throw new IllegalStateException();
+    }
+}
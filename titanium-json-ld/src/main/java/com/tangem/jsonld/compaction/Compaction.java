@@ -25,7 +25,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -35,6 +34,7 @@ import javax.json.JsonValue;
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.TermDefinition;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.GraphObject;
 import com.tangem.jsonld.lang.Keywords;
@@ -99,7 +99,7 @@ public final class Compaction {
         if (JsonUtils.isArray(element)) {
 
             // 3.1.
-            final JsonArrayBuilder resultBuilder = Json.createArrayBuilder();
+            final JsonArrayBuilder resultBuilder = JsonBackend.createArrayBuilder();
 
             // 3.2.
             for (final JsonValue item : element.asJsonArray()) {
@@ -157,7 +157,7 @@ public final class Compaction {
                     activeContext
                             .newContext()
                             .overrideProtected(true)
-                            .create(activePropertyDefinition.get().getLocalContext(),
+                            .create(activePropertyDefinition.get(),
                                     activePropertyDefinition.get().getBaseUrl());
         }
 
@@ -220,7 +220,7 @@ public final class Compaction {
                             activeContext
                                 .newContext()
                                 .propagate(false)
-                                .create(termDefinition.get().getLocalContext(), termDefinition.get().getBaseUrl());
+                                .create(termDefinition.get(), termDefinition.get().getBaseUrl());
                 }
             }
         }
@@ -268,7 +268,7 @@ public final class Compaction {
                 } else if (JsonUtils.isArray(expandedValue)) {
 
                     // 12.2.2.1.
-                    JsonArrayBuilder compactedArray = Json.createArrayBuilder();
+                    JsonArrayBuilder compactedArray = JsonBackend.createArrayBuilder();
                     
                     // 12.2.2.2.
                     for (JsonValue expandedType : expandedValue.asJsonArray()) {
@@ -514,7 +514,7 @@ public final class Compaction {
                         // 12.8.7.2.1.
                         String key = activeContext.uriCompaction().vocab(true).compact(Keywords.LIST);
                         
-                        compactedItem = Json.createObjectBuilder().add(key, compactedItem).build();
+                        compactedItem = JsonBackend.createObjectBuilder().add(key, compactedItem).build();
                         
                         // 12.8.7.2.2.
                         if (JsonUtils.isObject(expandedItem) 
@@ -522,7 +522,7 @@ public final class Compaction {
 
                             String indexKey = activeContext.uriCompaction().vocab(true).compact(Keywords.INDEX);
 
-                            compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject())
+                            compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject())
                                                 .add(indexKey, expandedItem.asJsonObject().get(Keywords.INDEX))
                                                 .build();    
                         }
@@ -603,7 +603,7 @@ public final class Compaction {
 
                         // 12.8.8.3.1.
                         if (JsonUtils.isArray(compactedItem) && compactedItem.asJsonArray().size() > 1) {
-                            compactedItem = Json.createObjectBuilder().add(
+                            compactedItem = JsonBackend.createObjectBuilder().add(
                                                         activeContext
                                                             .uriCompaction()
                                                             .vocab(true)
@@ -623,7 +623,7 @@ public final class Compaction {
                     // 12.8.8.4.
                     if (!container.contains(Keywords.GRAPH) || followup) {
                         // 12.8.8.4.1.
-                        compactedItem = Json.createObjectBuilder().add(
+                        compactedItem = JsonBackend.createObjectBuilder().add(
                                 activeContext
                                     .uriCompaction()
                                     .vocab(true)
@@ -634,7 +634,7 @@ public final class Compaction {
                         // 12.8.8.4.2.
                         if (expandedItem.asJsonObject().containsKey(Keywords.ID)) {
 
-                            compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject()).add(
+                            compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject()).add(
                                     activeContext
                                         .uriCompaction()
                                         .vocab(true)
@@ -650,7 +650,7 @@ public final class Compaction {
                         // 12.8.8.4.3.
                         if (expandedItem.asJsonObject().containsKey(Keywords.INDEX)) {
                             
-                            compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject()).add(
+                            compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject()).add(
                                     activeContext
                                         .uriCompaction()
                                         .vocab(true)
@@ -744,7 +744,7 @@ public final class Compaction {
                                 mapKey = ((JsonString)containerValue).getString();
                                 
                                 // 12.8.9.6.3.
-                                compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
+                                compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
 
                             } else if (JsonUtils.isArray(containerValue) && !JsonUtils.isEmptyArray(containerValue)) {
                                 
@@ -759,16 +759,16 @@ public final class Compaction {
                                         containerKeyValue = containerValue.asJsonArray().get(1);
                                         
                                     } else {
-                                        containerKeyValue = Json.createArrayBuilder(containerValue.asJsonArray()).remove(0).build();
+                                        containerKeyValue = JsonBackend.createArrayBuilder(containerValue.asJsonArray()).remove(0).build();
                                     }
 
-                                    compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject())
+                                    compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject())
                                                         .remove(containerKey)
                                                         .add(containerKey, containerKeyValue)
                                                         .build();
 
                                 } else {
-                                    compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
+                                    compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
                                 }
                             }
                         }
@@ -810,21 +810,21 @@ public final class Compaction {
                                         compactedKeyArrayValue = compactedKeyArray.get(1);
                                         
                                     } else {
-                                        compactedKeyArrayValue = Json.createArrayBuilder(compactedKeyArray).remove(0).build();   
+                                        compactedKeyArrayValue = JsonBackend.createArrayBuilder(compactedKeyArray).remove(0).build();   
                                     }
                                                                          
-                                    compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject())
+                                    compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject())
                                                         .remove(containerKey)
                                                         .add(containerKey, compactedKeyArrayValue)
                                                         .build();
 
                                 } else {
-                                    compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
+                                    compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
                                 }
                                 
                                 
                             } else {
-                                compactedItem = Json.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
+                                compactedItem = JsonBackend.createObjectBuilder(compactedItem.asJsonObject()).remove(containerKey).build();
                             }
                         }
                                                 
@@ -835,7 +835,7 @@ public final class Compaction {
                             
                             if (Keywords.ID.equals(expandedKey)) {
 
-                                JsonObject map = Json.createObjectBuilder().add(Keywords.ID, expandedItem.asJsonObject().get(Keywords.ID)).build();
+                                JsonObject map = JsonBackend.createObjectBuilder().add(Keywords.ID, expandedItem.asJsonObject().get(Keywords.ID)).build();
                                 
                                 compactedItem = Compaction
                                                         .with(activeContext)
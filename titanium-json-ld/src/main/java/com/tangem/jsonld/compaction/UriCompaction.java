@@ -23,6 +23,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import javax.json.JsonArray;
+import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 
@@ -96,6 +97,35 @@ public final class UriCompaction {
             activeContext.createInverseContext();
         }
 
+        String signature = signature(variable);
+        
+        if (signature == null) {
+            return compactValue(variable);
+        }
+        
+        // contexts differing only in the base IRI share the cache
+        if (!vocab && activeContext.getBaseUri() != null) {
+            signature = signature + ' ' + activeContext.getBaseUri();
+        }
+        
+        final UriCompactionCache cache = activeContext.getUriCompactionCache();
+        
+        String result = cache.get(signature, variable);
+        
+        if (result == null) {
+            
+            result = compactValue(variable);
+            
+            if (result != null) {
+                cache.put(signature, variable, result);
+            }
+        }
+        
+        return result;
+    }
+    
+    private String compactValue(final String variable) throws JsonLdError {
+        
         // 3.
         InverseContext inverseContext = activeContext.getInverseContext();
 
@@ -411,15 +441,7 @@ public final class UriCompaction {
                    ) {
             
                 // 4.16.1.
-                final String idValue = value.asJsonObject().getString(Keywords.ID);
-                
-                final String compactedIdValue = activeContext.uriCompaction().vocab(true).compact(idValue);
-                
-                final Optional<TermDefinition> compactedIdValueTermDefinition = activeContext.getTerm(compactedIdValue);
-                
-                if (compactedIdValueTermDefinition.isPresent()
-                        && idValue.equals(compactedIdValueTermDefinition.get().getUriMapping())
-                        ) {
+                if (isVocabTerm(value.asJsonObject().getString(Keywords.ID))) {
                     preferredValues.add(Keywords.VOCAB);
                     preferredValues.add(Keywords.ID);
                     
@@ -485,15 +507,13 @@ public final class UriCompaction {
         String compactUri = null;
         
         // 7.
-        for (Entry<String, TermDefinition> termEntry : activeContext.getTermsMapping().entrySet()) {
+        for (Entry<String, TermDefinition> termEntry : inverseContext.getPrefixes()) {
       
             TermDefinition termDefinition = termEntry.getValue();
             
-            // 7.1.
-            if (termDefinition.getUriMapping() == null
-                    || variable.equals(termDefinition.getUriMapping())
+            // 7.1., terms without IRI mapping or prefix flag are not in the inverse context prefixes
+            if (variable.equals(termDefinition.getUriMapping())
                     || !variable.startsWith(termDefinition.getUriMapping())
-                    || termDefinition.isNotPrefix()
                     ) {
                 continue;
             }
@@ -544,4 +564,71 @@ public final class UriCompaction {
         // 11.
         return variable;
     }
+
+    // 4.16.1.
+    private boolean isVocabTerm(final String idValue) throws JsonLdError {
+        
+        final String compactedIdValue = activeContext.uriCompaction().vocab(true).compact(idValue);
+        
+        final Optional<TermDefinition> compactedIdValueTermDefinition = activeContext.getTerm(compactedIdValue);
+        
+        return compactedIdValueTermDefinition.isPresent()
+                    && idValue.equals(compactedIdValueTermDefinition.get().getUriMapping());
+    }
+    
+    /**
+     * @return signature of the flags and the value shape the result depends on,
+     *          or <code>null</code> if the result should not be remembered
+     */
+    private String signature(final String variable) throws JsonLdError {
+
+        final StringBuilder signature = new StringBuilder()
+                                                .append(vocab ? 'v' : '-')
+                                                .append(reverse ? 'r' : '-');
+        
+        if (JsonUtils.isNull(value)) {
+            return signature.append('0').toString();
+        }
+        
+        if (JsonUtils.isNotObject(value)) {
+            return signature.append('n').toString();
+        }
+        
+        final JsonObject object = value.asJsonObject();
+        
+        // 4.2. and 4.7. depend on the value content
+        if (object.containsKey(Keywords.PRESERVE) || ListObject.isListObject(value)) {
+            return null;
+        }
+        
+        final boolean valueObject = ValueObject.isValueObject(value);
+        
+        signature
+            .append(object.containsKey(Keywords.INDEX) ? 'i' : '-')
+            .append(object.containsKey(Keywords.ID) ? 'd' : '-')
+            .append(GraphObject.isGraphObject(value) ? 'g' : '-')
+            .append(valueObject ? 'o' : '-')
+            .append(object.size());
+        
+        if (valueObject) {
+            signature
+                .append(shape(object, Keywords.LANGUAGE))
+                .append(shape(object, Keywords.DIRECTION))
+                .append(shape(object, Keywords.TYPE));
+        }
+
+        // 4.16.
+        if ((reverse || !valueObject) 
+                && vocab 
+                && object.containsKey(Keywords.ID)
+                && activeContext.getInverseContext().contains(variable)) {
+            signature.append(isVocabTerm(object.getString(Keywords.ID)) ? 'v' : 'i');
+        }
+        
+        return signature.toString();
+    }
+    
+    private static final String shape(final JsonObject object, final String key) {
+        return object.containsKey(key) ? "|" + object.get(key) : "|-";
+    }
 }
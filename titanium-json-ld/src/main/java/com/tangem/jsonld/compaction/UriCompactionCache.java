@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.compaction;
+
+import com.tangem.jsonld.uri.UriCache;
+
+/**
+ * IRI compaction results, kept in a table for each signature of everything else
+ * a result depends on, i.e. the <code>vocab</code> and <code>reverse</code> flags
+ * and the shape of the value.
+ * 
+ * @see UriCompaction
+ */
+public final class UriCompactionCache extends UriCache<String> {
+
+    private static final int MAX_SIZE = 8192;
+
+    public UriCompactionCache() {
+        super(MAX_SIZE);
+    }
+
+    String get(final String signature, final String variable) {
+        return lookup(signature, variable);
+    }
+
+    void put(final String signature, final String variable, final String result) {
+        remember(signature, variable, result);
+    }
+}
@@ -18,7 +18,6 @@ package com.tangem.jsonld.compaction;
 import java.util.Map.Entry;
 import java.util.Optional;
 
-import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
@@ -27,6 +26,7 @@ import javax.json.JsonValue;
 
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.TermDefinition;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.DirectionType;
 import com.tangem.jsonld.lang.Keywords;
@@ -76,7 +76,7 @@ public final class ValueCompaction {
 
         if (language == null) {
             language = activeContext.getDefaultLanguage() != null
-                            ? Json.createValue(activeContext.getDefaultLanguage())
+                            ? JsonBackend.createValue(activeContext.getDefaultLanguage())
                             : null;
         }
 
@@ -131,7 +131,7 @@ public final class ValueCompaction {
                 ) {
 
             // 8.1.
-            JsonArrayBuilder types = Json.createArrayBuilder();
+            JsonArrayBuilder types = JsonBackend.createArrayBuilder();
             
             JsonValue resultTypes = result.asJsonObject().get(Keywords.TYPE);
             
@@ -141,7 +141,7 @@ public final class ValueCompaction {
                     types.add(activeContext.uriCompaction().vocab(true).compact(((JsonString)type).getString()));                    
                 }
                 
-                result = Json.createObjectBuilder(result.asJsonObject()).add(Keywords.TYPE, types.build()).build();
+                result = JsonBackend.createObjectBuilder(result.asJsonObject()).add(Keywords.TYPE, types.build()).build();
             }
             
         // 9.
@@ -184,7 +184,7 @@ public final class ValueCompaction {
         // 11.
         if (JsonUtils.isObject(result)) {
 
-            JsonObjectBuilder resultBuilder = Json.createObjectBuilder();
+            JsonObjectBuilder resultBuilder = JsonBackend.createObjectBuilder();
             
             for (Entry<String, JsonValue> entry : result.asJsonObject().entrySet()) {
                 resultBuilder.add(
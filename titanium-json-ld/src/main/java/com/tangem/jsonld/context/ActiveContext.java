@@ -17,7 +17,7 @@ package com.tangem.jsonld.context;
 
 import java.net.URI;
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -30,8 +30,10 @@ import com.tangem.jsonld.lang.DirectionType;
 import com.tangem.jsonld.lang.Version;
 import com.tangem.jsonld.api.JsonLdOptions;
 import com.tangem.jsonld.compaction.UriCompaction;
+import com.tangem.jsonld.compaction.UriCompactionCache;
 import com.tangem.jsonld.compaction.ValueCompaction;
 import com.tangem.jsonld.expansion.UriExpansion;
+import com.tangem.jsonld.expansion.UriExpansionCache;
 import com.tangem.jsonld.expansion.ValueExpansion;
 
 /**
@@ -43,7 +45,7 @@ public final class ActiveContext {
 
     // the active term definitions which specify how keys and values have to be
     // interpreted
-    private final Map<String, com.tangem.jsonld.context.TermDefinition> terms;
+    private final TermMap terms;
 
     // the current base IRI
     private URI baseUri;
@@ -51,7 +53,8 @@ public final class ActiveContext {
     // the original base URL
     private URI baseUrl;
 
-    private InverseContext inverseContext;
+    // created lazily, at most once, see createInverseContext()
+    private volatile InverseContext inverseContext;
 
     // an optional previous context, used when a non-propagated context is defined.
     private ActiveContext previousContext;
@@ -66,6 +69,12 @@ public final class ActiveContext {
     private DirectionType defaultBaseDirection;
 
     private final com.tangem.jsonld.api.JsonLdOptions options;
+
+    // memoized IRI expansions, cleared whenever the context is modified
+    private final UriExpansionCache uriExpansionCache;
+
+    // memoized IRI compactions, cleared whenever the context is modified
+    private final UriCompactionCache uriCompactionCache;
     
     public ActiveContext(final com.tangem.jsonld.api.JsonLdOptions options) {
         this(null, null, null, options);
@@ -79,14 +88,25 @@ public final class ActiveContext {
         this.baseUri = baseUri;
         this.baseUrl = baseUrl;
         this.previousContext = previousContext;
-        this.terms = new LinkedHashMap<>();
+        this.terms = new TermMap();
         this.options = options;
+        this.uriExpansionCache = new UriExpansionCache();
+        this.uriCompactionCache = new UriCompactionCache();
     }
 
-    // copy constructor
+    // copy constructor, shares the term definitions until they are modified
     public ActiveContext(final ActiveContext origin) {
-        this.terms = new LinkedHashMap<>(origin.terms);
-        this.baseUri = origin.baseUri;
+        this(origin, origin.baseUri, new UriCompactionCache());
+    }
+
+    // a copy with another base IRI sharing the IRI compaction cache, document-relative results are keyed by the base IRI
+    public ActiveContext(final ActiveContext origin, final URI baseUri) {
+        this(origin, baseUri, origin.uriCompactionCache);
+    }
+
+    private ActiveContext(final ActiveContext origin, final URI baseUri, final UriCompactionCache uriCompactionCache) {
+        this.terms = origin.terms.derive();
+        this.baseUri = baseUri;
         this.baseUrl = origin.baseUrl;
         this.inverseContext = origin.inverseContext;
         this.previousContext = origin.previousContext;
@@ -94,22 +114,36 @@ public final class ActiveContext {
         this.defaultLanguage = origin.defaultLanguage;
         this.defaultBaseDirection = origin.defaultBaseDirection;
         this.options = origin.options;
+        this.uriExpansionCache = new UriExpansionCache();
+        this.uriCompactionCache = uriCompactionCache;
     }
 
+    /**
+     * Create the inverse context unless it already exists. Safe to call
+     * concurrently, the inverse context is built just once and shared.
+     */
     public void createInverseContext() {
-        this.inverseContext = InverseContextBuilder.with(this).build();
-   }
+        if (inverseContext == null) {
+            synchronized (this) {
+                if (inverseContext == null) {
+                    this.inverseContext = InverseContextBuilder.with(this).build();
+                }
+            }
+        }
+    }
    
     public boolean containsTerm(final String term) {
-        return terms.containsKey(term);
+        return terms.contains(term);
     }
 
     public boolean containsProtectedTerm() {
-        return terms.values().stream().anyMatch(com.tangem.jsonld.context.TermDefinition::isProtected);
+        return terms.toMap().values().stream().anyMatch(com.tangem.jsonld.context.TermDefinition::isProtected);
     }
 
     protected Optional<com.tangem.jsonld.context.TermDefinition> removeTerm(final String term) {
-        if (terms.containsKey(term)) {
+        if (terms.contains(term)) {
+            uriExpansionCache.clear();
+            uriCompactionCache.clear();
             return Optional.of(terms.remove(term));
         }
         return Optional.empty();
@@ -149,18 +183,23 @@ public final class ActiveContext {
     
     public void setBaseUri(final URI baseUri) {
         this.baseUri = baseUri;
+        this.uriExpansionCache.clear();
+        this.uriCompactionCache.clear();
     }
 
     public InverseContext getInverseContext() {
         return inverseContext;
     }
         
+    /**
+     * @return an unmodifiable snapshot of the term definitions in definition order
+     */
     public Map<String, com.tangem.jsonld.context.TermDefinition> getTermsMapping() {
-        return terms;
+        return Collections.unmodifiableMap(terms.toMap());
     }
     
     public Collection<String> getTerms() {
-        return terms.keySet();
+        return getTermsMapping().keySet();
     }
     
     public com.tangem.jsonld.context.ActiveContextBuilder newContext() {
@@ -171,6 +210,20 @@ public final class ActiveContext {
         return UriExpansion.with(this);
     }
 
+    /**
+     * @return memoized IRI expansions of this context, also reporting the cache hit rate
+     */
+    public UriExpansionCache getUriExpansionCache() {
+        return uriExpansionCache;
+    }
+
+    /**
+     * @return memoized IRI compactions of this context, also reporting the cache hit rate
+     */
+    public UriCompactionCache getUriCompactionCache() {
+        return uriCompactionCache;
+    }
+
     public com.tangem.jsonld.expansion.ValueExpansion valueExpansion() {
         return ValueExpansion.with(this);
     }
@@ -197,14 +250,18 @@ public final class ActiveContext {
     
     protected void setDefaultBaseDirection(final DirectionType defaultBaseDirection) {
         this.defaultBaseDirection = defaultBaseDirection;
+        this.uriCompactionCache.clear();
     }
     
     protected void setDefaultLanguage(final String defaultLanguage) {
         this.defaultLanguage = defaultLanguage;
+        this.uriCompactionCache.clear();
     }
     
     protected void setVocabularyMapping(final String vocabularyMapping) {
         this.vocabularyMapping = vocabularyMapping;
+        this.uriExpansionCache.clear();
+        this.uriCompactionCache.clear();
     }
     
     protected void setBaseUrl(final URI baseUrl) {
@@ -215,11 +272,14 @@ public final class ActiveContext {
         this.previousContext = previousContext;
     }
     
-    protected void setInverseContext(final InverseContext inverseContext) {
+    protected synchronized void setInverseContext(final InverseContext inverseContext) {
         this.inverseContext = inverseContext;
+        this.uriCompactionCache.clear();
     }
     
     protected void setTerm(final String term, final TermDefinition definition) {
         terms.put(term, definition);
+        uriExpansionCache.clear();
+        uriCompactionCache.clear();
     }
 }
\ No newline at end of file
@@ -20,10 +20,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonStructure;
@@ -31,6 +31,7 @@ import javax.json.JsonValue;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.http.ProfileConstants;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.BlankNode;
 import com.tangem.jsonld.lang.DirectionType;
@@ -111,6 +112,33 @@ public final class ActiveContextBuilder {
         return this;
     }
 
+    /**
+     * Apply the local context of the term definition. The result is remembered by
+     * the definition and returned again for the same active context, base URL and options.
+     * 
+     * @param definition a term definition having a local context
+     * @param baseUrl the base URL of the local context
+     * @return an active context with the local context applied 
+     * @throws JsonLdError
+     */
+    public ActiveContext create(final TermDefinition definition, final URI baseUrl) throws com.tangem.jsonld.api.JsonLdError {
+        
+        if (remoteContexts != null && !remoteContexts.isEmpty()) {
+            return create(definition.getLocalContext(), baseUrl);
+        }
+        
+        final DerivedContextKey key = new DerivedContextKey(activeContext, baseUrl, overrideProtected, propagate, validateScopedContext);
+        
+        ActiveContext derived = definition.getDerivedContext(key);
+        
+        if (derived == null) {
+            derived = create(definition.getLocalContext(), baseUrl);
+            definition.setDerivedContext(key, derived);
+        }
+        
+        return derived;
+    }
+    
     public ActiveContext create(final JsonValue localContext, final URI baseUrl) throws com.tangem.jsonld.api.JsonLdError {
 
         // 1. Initialize result to the result of cloning active context, with inverse
@@ -534,7 +562,7 @@ public final class ActiveContextBuilder {
 
         // remote @base from a remote context
         if (JsonUtils.isObject(importedContext) && importedContext.asJsonObject().containsKey(Keywords.BASE)) {
-            importedContext = Json.createObjectBuilder(importedContext.asJsonObject()).remove(Keywords.BASE).build();
+            importedContext = JsonBackend.createObjectBuilder(importedContext.asJsonObject()).remove(Keywords.BASE).build();
         }
         
         // 5.2.6
@@ -549,4 +577,42 @@ public final class ActiveContextBuilder {
             throw new JsonLdError(JsonLdErrorCode.LOADING_REMOTE_CONTEXT_FAILED, e);
         }
     }
+
+    private static final class DerivedContextKey {
+        
+        private final ActiveContext activeContext;
+        private final URI baseUrl;
+        private final boolean overrideProtected;
+        private final boolean propagate;
+        private final boolean validateScopedContext;
+        
+        DerivedContextKey(final ActiveContext activeContext, final URI baseUrl, final boolean overrideProtected, final boolean propagate, final boolean validateScopedContext) {
+            this.activeContext = activeContext;
+            this.baseUrl = baseUrl;
+            this.overrideProtected = overrideProtected;
+            this.propagate = propagate;
+            this.validateScopedContext = validateScopedContext;
+        }
+        
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(activeContext) * 31 + (baseUrl != null ? baseUrl.hashCode() : 0);
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DerivedContextKey)) {
+                return false;
+            }
+            final DerivedContextKey other = (DerivedContextKey) obj;
+            return activeContext == other.activeContext
+                    && Objects.equals(baseUrl, other.baseUrl)
+                    && overrideProtected == other.overrideProtected
+                    && propagate == other.propagate
+                    && validateScopedContext == other.validateScopedContext;
+        }
+    }
 }
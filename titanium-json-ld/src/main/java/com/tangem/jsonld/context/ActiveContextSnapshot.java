@@ -0,0 +1,628 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.context;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonNumber;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.tangem.jsonld.api.JsonLdError;
+import com.tangem.jsonld.api.JsonLdErrorCode;
+import com.tangem.jsonld.api.JsonLdOptions;
+import com.tangem.jsonld.json.JsonBackend;
+import com.tangem.jsonld.lang.DirectionType;
+
+/**
+ * Compact binary form of a processed {@link ActiveContext}. Loading a snapshot
+ * restores the term definitions, the inverse context, the base IRI, the
+ * vocabulary mapping and the previous context without parsing JSON or
+ * processing term definitions again.
+ * <p>
+ * Strings and term definitions shared by the contexts are written just once.
+ * 
+ * @see com.tangem.jsonld.expansion.Expansion#with(ActiveContext, JsonValue, String, URI)
+ * @see com.tangem.jsonld.compaction.Compaction#with(ActiveContext)
+ */
+public final class ActiveContextSnapshot {
+
+    private static final int MAGIC = 0x4A4C4443;    // JLDC
+    
+    private static final int VERSION = 1;
+    
+    // JSON value tags
+    private static final int ABSENT = 0;
+    private static final int NULL = 1;
+    private static final int TRUE = 2;
+    private static final int FALSE = 3;
+    private static final int STRING = 4;
+    private static final int INTEGER = 5;
+    private static final int DECIMAL = 6;
+    private static final int ARRAY = 7;
+    private static final int OBJECT = 8;
+
+    // term definition flags
+    private static final int PREFIX = 1;
+    private static final int PROTECTED = 2;
+    private static final int REVERSE = 4;
+    
+    // longer strings are read in chunks of this size
+    private static final int CHUNK_SIZE = 64 * 1024;
+    
+    private ActiveContextSnapshot() {
+    }
+    
+    /**
+     * Write the active context as a snapshot. The output stream is flushed but
+     * not closed.
+     * 
+     * @param context an active context to write
+     * @param os an output stream to write the snapshot to
+     * @throws JsonLdError if the snapshot cannot be written
+     */
+    public static final void write(final ActiveContext context, final OutputStream os) throws JsonLdError {
+
+        if (context == null) {
+            throw new IllegalArgumentException("The context parameter cannot be null.");
+        }
+
+        if (os == null) {
+            throw new IllegalArgumentException("The output stream parameter cannot be null.");
+        }
+        
+        try {
+            
+            final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(os));
+            
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+
+            new SnapshotWriter(output).writeContext(context);
+            
+            output.flush();
+            
+        } catch (IOException e) {
+            throw new JsonLdError(JsonLdErrorCode.UNSPECIFIED, e);
+        }
+    }
+
+    /**
+     * Read an active context from a snapshot. Exactly the snapshot bytes are
+     * consumed, the input stream is not closed. A buffered stream is recommended.
+     * 
+     * @param is an input stream providing the snapshot
+     * @param options used by the restored active context
+     * @return the restored {@link ActiveContext}
+     * @throws JsonLdError if the input is not a valid snapshot
+     */
+    public static final ActiveContext read(final InputStream is, final JsonLdOptions options) throws JsonLdError {
+
+        if (is == null) {
+            throw new IllegalArgumentException("The input stream parameter cannot be null.");
+        }
+
+        if (options == null) {
+            throw new IllegalArgumentException("The options parameter cannot be null.");
+        }
+
+        try {
+            
+            final DataInputStream input = new DataInputStream(is);
+            
+            if (input.readInt() != MAGIC) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "The input is not an active context snapshot.");
+            }
+            
+            final int version = input.readUnsignedByte();
+            
+            if (version != VERSION) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unsupported active context snapshot version [" + version + "].");
+            }
+            
+            return new SnapshotReader(input, options).readContext();
+
+        } catch (EOFException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unexpected end of an active context snapshot.");
+            
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
+    private static final class SnapshotWriter {
+        
+        private final DataOutputStream output;
+        
+        private final Map<String, Integer> strings;
+        
+        private final Map<TermDefinition, Integer> definitions;
+        
+        SnapshotWriter(final DataOutputStream output) {
+            this.output = output;
+            this.strings = new HashMap<>();
+            this.definitions = new IdentityHashMap<>();
+        }
+        
+        void writeContext(final ActiveContext context) throws IOException {
+            
+            writeString(context.getBaseUri() != null ? context.getBaseUri().toString() : null);
+            writeString(context.getBaseUrl() != null ? context.getBaseUrl().toString() : null);
+            writeString(context.getVocabularyMapping());
+            writeString(context.getDefaultLanguage());
+            writeDirection(context.getDefaultBaseDirection());
+            
+            final Map<String, TermDefinition> terms = context.getTermsMapping();
+            
+            writeInt(terms.size());
+            
+            for (final Map.Entry<String, TermDefinition> term : terms.entrySet()) {
+                writeString(term.getKey());
+                writeDefinition(term.getValue());
+            }
+            
+            final InverseContext inverseContext = context.getInverseContext();
+            
+            output.writeBoolean(inverseContext != null);
+            
+            if (inverseContext != null) {
+                writeInverseContext(inverseContext);
+            }
+
+            output.writeBoolean(context.getPreviousContext() != null);
+            
+            if (context.getPreviousContext() != null) {
+                writeContext(context.getPreviousContext());
+            }
+        }
+
+        private void writeDefinition(final TermDefinition definition) throws IOException {
+            
+            final Integer index = definitions.get(definition);
+
+            // a definition shared with a context already written
+            if (index != null) {
+                writeInt(index + 1);
+                return;
+            }
+
+            definitions.put(definition, definitions.size());
+            writeInt(0);
+            
+            output.writeByte((definition.isPrefix() ? PREFIX : 0)
+                            | (definition.isProtected() ? PROTECTED : 0)
+                            | (definition.isReverseProperty() ? REVERSE : 0)
+                            );
+            
+            writeString(definition.getUriMapping());
+            writeString(definition.getBaseUrl() != null ? definition.getBaseUrl().toString() : null);
+            writeValue(definition.getLocalContext());
+            
+            writeInt(definition.getContainerMapping().size());
+            
+            for (final String container : definition.getContainerMapping()) {
+                writeString(container);
+            }
+
+            writeString(definition.getIndexMapping());
+            writeString(definition.getNestValue());
+            writeString(definition.getTypeMapping());
+            writeDirection(definition.getDirectionMapping());
+            writeValue(definition.getLanguageMapping());
+        }
+        
+        private void writeInverseContext(final InverseContext inverseContext) throws IOException {
+            
+            writeInt(inverseContext.size());
+            
+            inverseContext.forEach((variable, container, type, values) -> {
+                
+                writeString(variable);
+                writeString(container);
+                writeString(type);
+                
+                writeInt(values.size());
+                
+                for (final Map.Entry<String, String> value : values.entrySet()) {
+                    writeString(value.getKey());
+                    writeString(value.getValue());
+                }
+            });
+            
+            writeInt(inverseContext.getPrefixes().size());
+            
+            for (final Map.Entry<String, TermDefinition> prefix : inverseContext.getPrefixes()) {
+                writeString(prefix.getKey());
+            }
+        }
+        
+        private void writeValue(final JsonValue value) throws IOException {
+            
+            if (value == null) {
+                output.writeByte(ABSENT);
+                return;
+            }
+            
+            switch (value.getValueType()) {
+            case NULL:
+                output.writeByte(NULL);
+                break;
+                
+            case TRUE:
+                output.writeByte(TRUE);
+                break;
+
+            case FALSE:
+                output.writeByte(FALSE);
+                break;
+                
+            case STRING:
+                output.writeByte(STRING);
+                writeString(((JsonString) value).getString());
+                break;
+                
+            case NUMBER:
+                final BigDecimal number = ((JsonNumber) value).bigDecimalValue();
+                
+                if (number.scale() == 0 && number.unscaledValue().bitLength() < Long.SIZE) {
+                    output.writeByte(INTEGER);
+                    output.writeLong(number.longValue());
+                    
+                } else {
+                    output.writeByte(DECIMAL);
+                    writeString(number.toString());
+                }
+                break;
+                
+            case ARRAY:
+                output.writeByte(ARRAY);
+                writeInt(value.asJsonArray().size());
+                
+                for (final JsonValue item : value.asJsonArray()) {
+                    writeValue(item);
+                }
+                break;
+                
+            case OBJECT:
+                output.writeByte(OBJECT);
+                writeInt(value.asJsonObject().size());
+                
+                for (final Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+                    writeString(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+                break;
+            }
+        }
+        
+        private void writeDirection(final DirectionType direction) throws IOException {
+            output.writeByte(direction != null ? direction.ordinal() + 1 : 0);
+        }
+
+        // 0 - null, 1 - a new string follows, n - the string written as (n - 2)th
+        private void writeString(final String value) throws IOException {
+            
+            if (value == null) {
+                writeInt(0);
+                return;
+            }
+            
+            final Integer index = strings.get(value);
+            
+            if (index != null) {
+                writeInt(index + 2);
+                return;
+            }
+            
+            strings.put(value, strings.size());
+            
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            
+            writeInt(1);
+            writeInt(bytes.length);
+            output.write(bytes);
+        }
+        
+        // unsigned variable length integer
+        private void writeInt(int value) throws IOException {
+            
+            while ((value & ~0x7F) != 0) {
+                output.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            
+            output.writeByte(value);
+        }
+    }
+    
+    private static final class SnapshotReader {
+        
+        private final DataInputStream input;
+        
+        private final JsonLdOptions options;
+        
+        private final List<String> strings;
+        
+        private final List<TermDefinition> definitions;
+        
+        SnapshotReader(final DataInputStream input, final JsonLdOptions options) {
+            this.input = input;
+            this.options = options;
+            this.strings = new ArrayList<>();
+            this.definitions = new ArrayList<>();
+        }
+        
+        ActiveContext readContext() throws IOException {
+            
+            final URI baseUri = readUri();
+            final URI baseUrl = readUri();
+            final String vocabularyMapping = readString();
+            final String defaultLanguage = readString();
+            final DirectionType defaultBaseDirection = readDirection();
+            
+            final ActiveContext context = new ActiveContext(baseUri, baseUrl, options);
+            
+            context.setVocabularyMapping(vocabularyMapping);
+            context.setDefaultLanguage(defaultLanguage);
+            context.setDefaultBaseDirection(defaultBaseDirection);
+            
+            final int size = readInt();
+            
+            for (int i = 0; i < size; i++) {
+                final String term = readString();
+                context.setTerm(term, readDefinition());
+            }
+
+            if (input.readBoolean()) {
+                context.setInverseContext(readInverseContext(context));
+            }
+            
+            if (input.readBoolean()) {
+                context.setPreviousContext(readContext());
+            }
+            
+            return context;
+        }
+        
+        private TermDefinition readDefinition() throws IOException {
+            
+            final int index = readInt();
+            
+            if (index > 0) {
+                return definitions.get(index - 1);
+            }
+            
+            final int flags = input.readUnsignedByte();
+
+            final TermDefinition definition = new TermDefinition(
+                                                        (flags & PREFIX) == PREFIX,
+                                                        (flags & PROTECTED) == PROTECTED,
+                                                        (flags & REVERSE) == REVERSE
+                                                        );
+            
+            definitions.add(definition);
+            
+            definition.setUriMapping(readString());
+            definition.setBaseUrl(readUri());
+            definition.setLocalContext(readValue());
+            
+            final int containers = readInt();
+            
+            for (int i = 0; i < containers; i++) {
+                definition.addContainerMapping(readString());
+            }
+            
+            definition.setIndexMapping(readString());
+            definition.setNestValue(readString());
+            definition.setTypeMapping(readString());
+            definition.setDirectionMapping(readDirection());
+            definition.setLanguageMapping(readValue());
+            
+            return definition;
+        }
+        
+        private InverseContext readInverseContext(final ActiveContext context) throws IOException {
+
+            final InverseContext inverseContext = new InverseContext();
+            
+            final int selectors = readInt();
+            
+            for (int i = 0; i < selectors; i++) {
+                
+                final String variable = readString();
+                final String container = readString();
+                final String type = readString();
+                
+                final int values = readInt();
+                
+                for (int j = 0; j < values; j++) {
+                    final String key = readString();
+                    inverseContext.setIfAbsent(variable, container, type, key, readString());
+                }
+            }
+            
+            final int prefixes = readInt();
+            
+            for (int i = 0; i < prefixes; i++) {
+                
+                final String term = readString();
+
+                inverseContext.addPrefix(term, 
+                        context.getTerm(term)
+                            .orElseThrow(() -> new IOException("The inverse context prefix [" + term + "] is not defined.")));
+            }
+            
+            return inverseContext;
+        }
+        
+        private JsonValue readValue() throws IOException {
+
+            final int tag = input.readUnsignedByte();
+            
+            switch (tag) {
+            case ABSENT:
+                return null;
+                
+            case NULL:
+                return JsonValue.NULL;
+                
+            case TRUE:
+                return JsonValue.TRUE;
+                
+            case FALSE:
+                return JsonValue.FALSE;
+                
+            case STRING:
+                return JsonBackend.createValue(readString());
+                
+            case INTEGER:
+                return JsonBackend.createValue(input.readLong());
+                
+            case DECIMAL:
+                return JsonBackend.createValue(new BigDecimal(readString()));
+                
+            case ARRAY:
+                final JsonArrayBuilder array = JsonBackend.createArrayBuilder();
+                
+                final int size = readInt();
+                
+                for (int i = 0; i < size; i++) {
+                    array.add(readValue());
+                }
+                
+                return array.build();
+                
+            case OBJECT:
+                final JsonObjectBuilder object = JsonBackend.createObjectBuilder();
+                
+                final int entries = readInt();
+                
+                for (int i = 0; i < entries; i++) {
+                    final String key = readString();
+                    object.add(key, readValue());
+                }
+                
+                return object.build();
+                
+            default:
+                throw new IOException("Unknown JSON value tag [" + tag + "].");
+            }
+        }
+        
+        private DirectionType readDirection() throws IOException {
+            
+            final int direction = input.readUnsignedByte();
+            
+            return direction != 0 ? DirectionType.values()[direction - 1] : null;
+        }
+        
+        private URI readUri() throws IOException {
+            
+            final String uri = readString();
+            
+            return uri != null ? URI.create(uri) : null;
+        }
+        
+        private String readString() throws IOException {
+            
+            final int index = readInt();
+            
+            if (index == 0) {
+                return null;
+            }
+            
+            if (index > 1) {
+                return strings.get(index - 2);
+            }
+            
+            final int length = readInt();
+            
+            if (length < 0) {
+                throw new IOException("Invalid string length [" + length + "].");
+            }
+            
+            final String value = new String(readBytes(length), StandardCharsets.UTF_8);
+
+            strings.add(value);
+            
+            return value;
+        }
+        
+        // the declared length is not trusted, a truncated input ends before a large allocation
+        private byte[] readBytes(final int length) throws IOException {
+            
+            if (length <= CHUNK_SIZE) {
+                
+                final byte[] bytes = new byte[length];
+                
+                input.readFully(bytes);
+                
+                return bytes;
+            }
+            
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(CHUNK_SIZE);
+            
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            
+            for (int remaining = length; remaining > 0; ) {
+                
+                final int count = Math.min(remaining, CHUNK_SIZE);
+                
+                input.readFully(chunk, 0, count);
+                bytes.write(chunk, 0, count);
+                
+                remaining -= count;
+            }
+            
+            return bytes.toByteArray();
+        }
+        
+        private int readInt() throws IOException {
+            
+            int value = 0;
+            
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                
+                final int b = input.readUnsignedByte();
+                
+                value |= (b & 0x7F) << shift;
+                
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            
+            throw new IOException("Malformed variable length integer.");
+        }
+    }
+}
@@ -15,45 +15,57 @@
  */
 package com.tangem.jsonld.context;
 
-import java.util.LinkedHashMap;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+/**
+ * Inverse context keyed by <code>(variable, container, type/language)</code>
+ * in a single hash table. Besides the term selection entries it keeps the terms
+ * that can be used as a compact IRI prefix, in the order of the active context.
+ */
 public final class InverseContext {
 
-    private final Map<String, Map<String, Map<String, Map<String, String>>>> context;
+    private final Map<Selector, Map<String, String>> context;
+    
+    private final Set<String> variables;
+    
+    private final Collection<Map.Entry<String, TermDefinition>> prefixes;
     
     public InverseContext() {
-        this.context = new LinkedHashMap<>();
+        this.context = new HashMap<>();
+        this.variables = new HashSet<>();
+        this.prefixes = new ArrayList<>();
     }
     
     private void set(final String variable, final String container, final String type, final String key, final String value) {
-        context.computeIfAbsent(variable, x -> new LinkedHashMap<>())
-                .computeIfAbsent(container, x -> new LinkedHashMap<>())
-                .computeIfAbsent(type, x -> new LinkedHashMap<>())                
+        variables.add(variable);
+        context.computeIfAbsent(new Selector(variable, container, type), x -> new HashMap<>())
                 .put(key, value);
     }
 
     public boolean doesNotContain(final String variable, final String container, final String type) {
-        return !context.containsKey(variable)
-                || !context.get(variable).containsKey(container)
-                || !context.get(variable).get(container).containsKey(type);        
+        return !context.containsKey(new Selector(variable, container, type));
     }
     
     public boolean doesNotContain(final String variable, final String container, final String type, final String key) {
-        return doesNotContain(variable, container, type)
-                || !context.get(variable).get(container).get(type).containsKey(key);
+        return !contains(variable, container, type, key);
     }
 
     public boolean contains(final String variable) {
-        return context.containsKey(variable);
+        return variables.contains(variable);
     }
 
     public boolean contains(final String variable, final String container, final String type, final String key) {
-        return contains(variable)
-                    && context.get(variable).containsKey(container)
-                    && context.get(variable).get(container).containsKey(type)
-                    && context.get(variable).get(container).get(type).containsKey(key);
+        final Map<String, String> values = get(variable, container, type);
+        return values != null && values.containsKey(key);
     }
     
     public void setIfAbsent(final String variable, final String container, final String type, final String key, final String value) {
@@ -63,9 +75,81 @@ public final class InverseContext {
     }
     
     public Optional<String> get(final String variable, final String container, final String type, final String key) {
-        if (doesNotContain(variable, container, type, key)) {
-            return Optional.empty();
+        final Map<String, String> values = get(variable, container, type);
+        return values != null ? Optional.ofNullable(values.get(key)) : Optional.empty();
+    }
+
+    /**
+     * @return the terms indexed by the preferred value, or <code>null</code> if there is no such entry
+     */
+    Map<String, String> get(final String variable, final String container, final String type) {
+        return context.get(new Selector(variable, container, type));
+    }
+
+    /**
+     * @return terms having an IRI mapping and the prefix flag set, in the active context order
+     */
+    public Collection<Map.Entry<String, TermDefinition>> getPrefixes() {
+        return Collections.unmodifiableCollection(prefixes);
+    }
+
+    void addPrefix(final String term, final TermDefinition definition) {
+        prefixes.add(new AbstractMap.SimpleImmutableEntry<>(term, definition));
+    }
+
+    /**
+     * @return the number of <code>(variable, container, type/language)</code> entries
+     */
+    int size() {
+        return context.size();
+    }
+
+    /**
+     * Visit the term selection entries, once per <code>(variable, container, type/language)</code>.
+     */
+    void forEach(final SelectorConsumer consumer) throws IOException {
+        for (final Map.Entry<Selector, Map<String, String>> entry : context.entrySet()) {
+            consumer.accept(entry.getKey().variable, entry.getKey().container, entry.getKey().type, entry.getValue());
+        }
+    }
+
+    @FunctionalInterface
+    interface SelectorConsumer {
+        void accept(String variable, String container, String type, Map<String, String> values) throws IOException;
+    }
+
+    private static final class Selector {
+        
+        private final String variable;
+        private final String container;
+        private final String type;
+        private final int hashCode;
+        
+        Selector(final String variable, final String container, final String type) {
+            this.variable = variable;
+            this.container = container;
+            this.type = type;
+            this.hashCode = (31 * (31 * variable.hashCode() + container.hashCode())) + type.hashCode();
+        }
+        
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Selector)) {
+                return false;
+            }
+            final Selector other = (Selector) obj;
+            return hashCode == other.hashCode
+                    && variable.equals(other.variable)
+                    && container.equals(other.container)
+                    && type.equals(other.type);
         }
-        return Optional.ofNullable(context.get(variable).get(container).get(type).get(key));
     }
-}
\ No newline at end of file
+}
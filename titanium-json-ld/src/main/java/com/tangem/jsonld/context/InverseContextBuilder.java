@@ -17,6 +17,7 @@ package com.tangem.jsonld.context;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -57,16 +58,20 @@ public final class InverseContextBuilder {
                                     ? activeContext.getDefaultLanguage().toLowerCase()
                                     : Keywords.NONE;
                                     
+        final Map<String, TermDefinition> terms = activeContext.getTermsMapping();
+        
         // 3
-        for (final String termName : activeContext.getTerms().stream().sorted().collect(Collectors.toList())) {
+        for (final String termName : terms.keySet().stream().sorted().collect(Collectors.toList())) {
         
+            final Optional<TermDefinition> definition = Optional.ofNullable(terms.get(termName));
+            
             // 3.1.
-            if (com.tangem.JavaOver8Utils.OptionalU.isEmpty(activeContext.getTerm(termName))) {
+            if (com.tangem.JavaOver8Utils.OptionalU.isEmpty(definition)) {
                 continue;
             }
 
             // 3.3.
-            final Optional<String> variable = activeContext.getTerm(termName).map(TermDefinition::getUriMapping);
+            final Optional<String> variable = definition.map(TermDefinition::getUriMapping);
             
             if (com.tangem.JavaOver8Utils.OptionalU.isEmpty(variable)) {
                 continue;
@@ -75,8 +80,7 @@ public final class InverseContextBuilder {
             final String variableValue = variable.get();
             
             final Optional<Collection<String>> containerMapping = 
-                                                    activeContext
-                                                        .getTerm(termName)
+                                                    definition
                                                         .map(TermDefinition::getContainerMapping);
 
             // 3.2.
@@ -89,16 +93,14 @@ public final class InverseContextBuilder {
             
             result.setIfAbsent(variableValue, container, Keywords.ANY, Keywords.NONE, termName);
 
-            final Optional<JsonValue> languageMapping = activeContext
-                                                            .getTerm(termName)
+            final Optional<JsonValue> languageMapping = definition
                                                             .map(TermDefinition::getLanguageMapping);
             
-            final Optional<DirectionType> directionMapping = activeContext
-                                                                .getTerm(termName)
+            final Optional<DirectionType> directionMapping = definition
                                                                 .map(TermDefinition::getDirectionMapping);
 
             // 3.10.
-            if (activeContext.getTerm(termName).map(TermDefinition::isReverseProperty).orElse(false)) {
+            if (definition.map(TermDefinition::isReverseProperty).orElse(false)) {
 
                 // 3.10.1
                 result.setIfAbsent(variableValue, container, Keywords.TYPE, Keywords.REVERSE, termName);
@@ -106,7 +108,7 @@ public final class InverseContextBuilder {
                 continue;
             } 
             
-            final Optional<String> typeMapping = activeContext.getTerm(termName).map(TermDefinition::getTypeMapping);
+            final Optional<String> typeMapping = definition.map(TermDefinition::getTypeMapping);
             
             // 3.11.
             if (typeMapping.filter(Keywords.NONE::equals).isPresent()) {
@@ -231,6 +233,15 @@ public final class InverseContextBuilder {
             result.setIfAbsent(variableValue, container, Keywords.TYPE, Keywords.NONE, termName);
         }
         
+        // compact IRI prefix candidates, see IRI Compaction 7.1.
+        for (final Map.Entry<String, TermDefinition> term : terms.entrySet()) {
+            if (term.getValue() != null
+                    && term.getValue().getUriMapping() != null
+                    && term.getValue().isPrefix()) {
+                result.addPrefix(term.getKey(), term.getValue());
+            }
+        }
+
         // 4.
         return result;
     }
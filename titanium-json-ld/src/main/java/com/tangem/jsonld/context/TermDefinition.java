@@ -18,6 +18,8 @@ package com.tangem.jsonld.context;
 import java.net.URI;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -27,6 +29,8 @@ import com.tangem.jsonld.lang.DirectionType;
 
 public final class TermDefinition {
 
+    private static final int MAX_DERIVED_CONTEXTS = 16;
+
     // required
     private String uriMapping;
 
@@ -53,6 +57,9 @@ public final class TermDefinition {
 
     private JsonValue languageMapping;
     
+    // active contexts derived by applying the local context, see ActiveContextBuilder
+    private Map<Object, ActiveContext> derivedContexts;
+    
     public TermDefinition(boolean prefixFlag, boolean protectedFlag, boolean reversePropertyFlag) {
         this.prefixFlag = prefixFlag;
         this.protectedFlag = protectedFlag;
@@ -62,6 +69,9 @@ public final class TermDefinition {
 
     public void setLocalContext(JsonValue context) {
         this.localContext = context;
+        synchronized (this) {
+            this.derivedContexts = null;
+        }
     }
 
     protected void setBaseUrl(URI baseUrl) {
@@ -183,4 +193,25 @@ public final class TermDefinition {
     public boolean hasContainerMapping(String value) {
         return containerMapping != null && containerMapping.contains(value);
     }  
+    
+    synchronized ActiveContext getDerivedContext(final Object key) {
+        return derivedContexts != null ? derivedContexts.get(key) : null;
+    }
+    
+    synchronized void setDerivedContext(final Object key, final ActiveContext context) {
+        
+        if (derivedContexts == null) {
+            derivedContexts = new LinkedHashMap<Object, ActiveContext>(16, 0.75f, true) {
+                
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Object, ActiveContext> eldest) {
+                    return size() > MAX_DERIVED_CONTEXTS;
+                }
+            };
+        }
+        
+        derivedContexts.put(key, context);
+    }
 }
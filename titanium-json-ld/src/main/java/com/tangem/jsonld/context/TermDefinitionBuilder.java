@@ -23,7 +23,6 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonString;
@@ -32,6 +31,7 @@ import javax.json.JsonValue;
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.TermDefinition;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.BlankNode;
 import com.tangem.jsonld.lang.CompactUri;
@@ -183,12 +183,12 @@ public final class TermDefinitionBuilder {
         // 7.
         if (JsonUtils.isNull(value)) {
 
-            valueObject = Json.createObjectBuilder().add(Keywords.ID, JsonValue.NULL).build();
+            valueObject = JsonBackend.createObjectBuilder().add(Keywords.ID, JsonValue.NULL).build();
 
         // 8.
         } else if (JsonUtils.isString(value)) {
             
-            valueObject = Json.createObjectBuilder().add(Keywords.ID, value).build();
+            valueObject = JsonBackend.createObjectBuilder().add(Keywords.ID, value).build();
             simpleTerm = true;
 
         // 9.
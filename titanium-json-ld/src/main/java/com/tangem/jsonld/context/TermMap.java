@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Term definitions of an active context stored as layers. A derived context
+ * shares the layers of its origin and records only the terms it changes, so
+ * deriving a context does not copy the term definitions.
+ * <p>
+ * Iteration follows the insertion order a {@link LinkedHashMap} would have.
+ */
+final class TermMap {
+
+    private static final int MAX_DEPTH = 8;
+    
+    private static final Comparator<Map.Entry<String, Entry>> BY_ORDER = 
+                        (a, b) -> Long.compare(a.getValue().order, b.getValue().order);
+    
+    private static final class Entry {
+        
+        // null if the term has been removed
+        final TermDefinition definition;
+        final long order;
+        
+        Entry(final TermDefinition definition, final long order) {
+            this.definition = definition;
+            this.order = order;
+        }
+    }
+    
+    // immutable, shared layers
+    private static final class Layer {
+        
+        final Layer parent;
+        final Map<String, Entry> entries;
+        final int depth;
+        
+        // term definitions in insertion order, computed on demand
+        volatile Map<String, TermDefinition> view;
+        
+        Layer(final Layer parent, final Map<String, Entry> entries) {
+            this.parent = parent;
+            this.entries = entries;
+            this.depth = parent != null ? parent.depth + 1 : 1;
+        }
+    }
+    
+    // the shared layers and the local changes, replaced at once when derived
+    private static final class State {
+
+        final Layer layer;
+        final Map<String, Entry> local;
+        
+        State(final Layer layer, final Map<String, Entry> local) {
+            this.layer = layer;
+            this.local = local;
+        }
+    }
+    
+    private volatile State state;
+    
+    private long nextOrder;
+    
+    TermMap() {
+        this(null, 0);
+    }
+    
+    private TermMap(final Layer layer, final long nextOrder) {
+        this.state = new State(layer, new HashMap<>());
+        this.nextOrder = nextOrder;
+    }
+
+    /**
+     * Create a copy sharing the current term definitions.
+     * 
+     * @return a new map, changes of the copy and of this map are not visible to each other
+     */
+    synchronized TermMap derive() {
+        
+        final State current = state;
+        
+        Layer layer = current.layer;
+        
+        if (!current.local.isEmpty()) {
+            layer = new Layer(layer, current.local);
+        }
+        
+        if (layer != null && layer.depth > MAX_DEPTH) {
+            layer = new Layer(null, collect(layer, null));
+        }
+        
+        if (layer != current.layer) {
+            state = new State(layer, new HashMap<>());
+        }
+        
+        return new TermMap(layer, nextOrder);
+    }
+    
+    TermDefinition get(final String term) {
+        
+        final Entry entry = entry(term);
+        
+        return entry != null ? entry.definition : null;
+    }
+    
+    boolean contains(final String term) {
+        return get(term) != null;
+    }
+    
+    void put(final String term, final TermDefinition definition) {
+        
+        final Entry previous = entry(term);
+        
+        state.local.put(term, new Entry(definition, previous != null && previous.definition != null ? previous.order : nextOrder++));
+    }
+    
+    TermDefinition remove(final String term) {
+        
+        final TermDefinition previous = get(term);
+        
+        if (previous != null) {
+            state.local.put(term, new Entry(null, nextOrder++));
+        }
+        
+        return previous;
+    }
+    
+    /**
+     * @return term definitions in insertion order
+     */
+    Map<String, TermDefinition> toMap() {
+
+        final State current = state;
+        
+        if (current.local.isEmpty()) {
+            return view(current.layer);
+        }
+
+        return apply(current.layer, current.local);
+    }
+    
+    private Entry entry(final String term) {
+
+        final State current = state;
+        
+        final Entry entry = current.local.get(term);
+        
+        return entry != null ? entry : find(current.layer, term);
+    }
+    
+    private static Map<String, TermDefinition> view(final Layer layer) {
+        
+        if (layer == null) {
+            return Collections.emptyMap();
+        }
+        
+        Map<String, TermDefinition> view = layer.view;
+        
+        if (view == null) {
+            view = Collections.unmodifiableMap(apply(layer.parent, layer.entries));
+            layer.view = view;
+        }
+        
+        return view;
+    }
+    
+    // applies the changes to the layer's view as a LinkedHashMap would do
+    private static Map<String, TermDefinition> apply(final Layer layer, final Map<String, Entry> changes) {
+
+        final Map<String, TermDefinition> result = new LinkedHashMap<>(view(layer));
+        
+        final List<Map.Entry<String, Entry>> entries = new ArrayList<>(changes.entrySet());
+        
+        Collections.sort(entries, BY_ORDER);
+        
+        for (final Map.Entry<String, Entry> entry : entries) {
+            
+            final Entry change = entry.getValue();
+            
+            if (change.definition == null) {
+                result.remove(entry.getKey());
+                continue;
+            }
+            
+            // a removed and defined again term is moved to the end
+            final Entry previous = find(layer, entry.getKey());
+            
+            if (previous == null || previous.definition == null || previous.order != change.order) {
+                result.remove(entry.getKey());
+            }
+            
+            result.put(entry.getKey(), change.definition);
+        }
+        
+        return result;
+    }
+    
+    private static Entry find(final Layer layer, final String term) {
+        
+        Entry entry = null;
+        
+        for (Layer current = layer; entry == null && current != null; current = current.parent) {
+            entry = current.entries.get(term);
+        }
+        
+        return entry;
+    }
+
+    // visible entries, removed terms excluded
+    private static Map<String, Entry> collect(final Layer layer, final Map<String, Entry> local) {
+
+        final Map<String, Entry> result = new HashMap<>();
+        final Set<String> seen = new HashSet<>();
+        
+        if (local != null) {
+            collect(local, result, seen);
+        }
+        
+        for (Layer current = layer; current != null; current = current.parent) {
+            collect(current.entries, result, seen);
+        }
+        
+        return result;
+    }
+    
+    private static void collect(final Map<String, Entry> entries, final Map<String, Entry> result, final Set<String> seen) {
+        for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (seen.add(entry.getKey()) && entry.getValue().definition != null) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+}
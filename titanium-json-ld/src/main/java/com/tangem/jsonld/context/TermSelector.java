@@ -19,6 +19,7 @@ import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.InverseContext;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -63,15 +64,17 @@ public final class TermSelector {
         // 4. For each item container in containers:
         for (final String container : containers) {
  
-            if (inverseContext.doesNotContain(variable, container, typeLanguage)) {
+            final Map<String, String> terms = inverseContext.get(variable, container, typeLanguage);
+            
+            if (terms == null) {
                 continue;
             }
                 // 4.4.
             for (final String item : preferredValues) {
                 
                 // 4.4.1.
-                if (inverseContext.contains(variable, container, typeLanguage, item)) {
-                    return inverseContext.get(variable, container, typeLanguage, item);
+                if (terms.containsKey(item)) {
+                    return Optional.ofNullable(terms.get(item));
                 }
             }
         }   
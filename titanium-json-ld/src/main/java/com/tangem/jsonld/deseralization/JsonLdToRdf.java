@@ -17,11 +17,16 @@ package com.tangem.jsonld.deseralization;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
 import javax.json.JsonString;
 import javax.json.JsonValue;
 
 import com.tangem.jsonld.api.JsonLdOptions.RdfDirection;
+import com.tangem.jsonld.flattening.BlankNodeIdGenerator;
 import com.tangem.jsonld.flattening.NodeMap;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.BlankNode;
@@ -31,6 +36,7 @@ import com.tangem.jsonld.api.JsonLdError;
 import com.tangem.jsonld.api.JsonLdOptions;
 import com.tangem.rdf.Rdf;
 import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfNQuad;
 import com.tangem.rdf.RdfResource;
 import com.tangem.rdf.RdfTriple;
 import com.tangem.rdf.RdfValue;
@@ -38,6 +44,15 @@ import com.tangem.rdf.lang.RdfConstants;
 
 public final class JsonLdToRdf {
 
+    // minimal number of subjects to convert a node map in parallel
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    // number of subjects converted sequentially by a single task
+    private static final int PARALLEL_BATCH = 256;
+    
+    // temporary blank node identifiers created by parallel conversion
+    private static final String BATCH_BLANK_NODE_PREFIX = "_:batch-";
+
     // required
     private final NodeMap nodeMap;
     private final com.tangem.rdf.RdfDataset dataset;
@@ -45,6 +60,8 @@ public final class JsonLdToRdf {
     // optional
     private boolean produceGeneralizedRdf;
     private JsonLdOptions.RdfDirection rdfDirection;
+    private boolean ordered;
+    private boolean parallel;
     
     private JsonLdToRdf(NodeMap nodeMap, com.tangem.rdf.RdfDataset dataset) {
         this.nodeMap = nodeMap;
@@ -52,11 +69,17 @@ public final class JsonLdToRdf {
         
         this.produceGeneralizedRdf = false;
         this.rdfDirection = null;
+        this.ordered = false;
+        this.parallel = false;
     }
     
     public static final JsonLdToRdf with(NodeMap nodeMap, com.tangem.rdf.RdfDataset dataset) {
         return new JsonLdToRdf(nodeMap, dataset);
     }
+
+    public static final JsonLdToRdf with(NodeMap nodeMap) {
+        return new JsonLdToRdf(nodeMap, null);
+    }
     
     public JsonLdToRdf produceGeneralizedRdf(boolean enable) {
         this.produceGeneralizedRdf = enable;
@@ -68,115 +91,339 @@ public final class JsonLdToRdf {
         return this;
     }
 
+    /**
+     * Visit graphs, subjects and properties in lexicographical order. Set it
+     * only when the order of the produced N-Quads matters, e.g. not when the
+     * dataset is canonicalized afterwards.
+     * 
+     * @param ordered <code>true</code> to produce N-Quads in a deterministic order 
+     * @return {@link JsonLdToRdf} instance
+     */
+    public JsonLdToRdf ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Convert graphs and large sets of subjects in parallel on the common
+     * {@link ForkJoinPool}. The produced N-Quads, their order and blank node
+     * identifiers are the same as of sequential conversion.
+     * 
+     * @param parallel <code>true</code> to enable parallel conversion of large node maps
+     * @return {@link JsonLdToRdf} instance
+     */
+    public JsonLdToRdf parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
     public RdfDataset build() throws JsonLdError {
         
+        if (dataset == null) {
+            throw new IllegalStateException("Dataset is not set, use build(Consumer) instead.");
+        }
+        
+        build(dataset::add);
+        
+        return dataset;
+    }
+
+    /**
+     * Converts the node map and passes the produced N-Quads to the given consumer
+     * instead of adding them to the dataset.
+     * 
+     * @param consumer receiving N-Quads as they are produced
+     * @throws JsonLdError
+     */
+    public void build(final Consumer<RdfNQuad> consumer) throws JsonLdError {
+        
+        if (isParallel()) {
+            buildParallel(consumer);
+            return;
+        }
+        
         // 1.
-        for (final String graphName : nodeMap.graphs(true)) {
+        for (final String graphName : nodeMap.graphs(ordered)) {
 
+            // 1.1.
+            if (isNotGraphName(graphName)) {
+                continue;
+            }
+            
             // 1.2.
-            final com.tangem.rdf.RdfResource rdfGraphName;
+            final RdfResource rdfGraphName = toRdfGraphName(graphName);
             
-            if (Keywords.DEFAULT.equals(graphName)) {
-                rdfGraphName = null;
+            // 1.3.
+            for (final String subject : nodeMap.subjects(graphName, ordered)) {
+                build(graphName, rdfGraphName, subject, nodeMap, consumer);
+            }
+        }
+    }
+    
+    private void build(final String graphName, final RdfResource rdfGraphName, final String subject, final NodeMap identifiers, final Consumer<RdfNQuad> consumer) throws JsonLdError {
                 
-            } else {
+        final RdfResource rdfSubject;
 
-                // 1.1.
-                if (BlankNode.isWellFormed(graphName)) {
-                    
-                    rdfGraphName = com.tangem.rdf.Rdf.createBlankNode(graphName);
+        // 1.3.1.
+        if (BlankNode.isWellFormed(subject)) {
+            rdfSubject = com.tangem.rdf.Rdf.createBlankNode(subject);
+            
+        } else if (UriUtils.isAbsoluteUri(subject)) {
+            rdfSubject = com.tangem.rdf.Rdf.createIRI(subject);
+            
+        } else {
+            return;                    
+        }
+        
+        // 1.3.2.
+        for (final String property : nodeMap.properties(graphName, subject, ordered)) {
+
+            // 1.3.2.1.
+            if (Keywords.TYPE.equals(property)) {
+                
+                for (JsonValue type : nodeMap.get(graphName, subject, property).asJsonArray()) { 
+                
+                    if (JsonUtils.isNotString(type)) {
+                        continue;
+                    }
                     
-                } else if (UriUtils.isAbsoluteUri(graphName)) {
-                 
-                    rdfGraphName = com.tangem.rdf.Rdf.createIRI(graphName);
+                    final String typeString = ((JsonString)type).getString();
+
+                    final RdfValue rdfObject;
                     
-                } else {
-                    continue;
+                    if (BlankNode.isWellFormed(typeString)) {
+                        rdfObject = com.tangem.rdf.Rdf.createBlankNode(typeString);
+                        
+                    } else if (UriUtils.isAbsoluteUri(typeString)) {
+                        rdfObject = com.tangem.rdf.Rdf.createIRI(typeString);
+                        
+                    } else {
+                        continue;
+                    }
+
+                    consumer.accept(com.tangem.rdf.Rdf.createNQuad(
+                                        rdfSubject,
+                                        com.tangem.rdf.Rdf.createIRI(RdfConstants.TYPE),
+                                        rdfObject,
+                                        rdfGraphName
+                                    ));
+                }
+
+            // 1.3.2.2.
+            } else if (!Keywords.contains(property) 
+                            && ((BlankNode.isWellFormed(property) && !produceGeneralizedRdf) 
+                             || UriUtils.isAbsoluteUri(property))) {
+                
+                // 1.3.2.5.
+                for (JsonValue item : nodeMap.get(graphName, subject, property).asJsonArray()) {
+                
+                    // 1.3.2.5.1.
+                    final List<RdfTriple> listTriples = new ArrayList<>();
+
+                    // 1.3.2.5.2.                            
+                    ObjectToRdf
+                            .with(item.asJsonObject(), listTriples, identifiers)
+                            .rdfDirection(rdfDirection)
+                            .build()
+                            .ifPresent(rdfObject ->
+                                                consumer.accept(com.tangem.rdf.Rdf.createNQuad(
+                                                            rdfSubject,
+                                                            com.tangem.rdf.Rdf.createResource(property),
+                                                            rdfObject,
+                                                            rdfGraphName
+                                                            )));
+                    // 1.3.2.5.3.
+                    listTriples.stream()
+                                .map(triple -> Rdf.createNQuad(triple, rdfGraphName))
+                                .forEach(consumer);
                 }
+            }   
+        }   
+    }
+    
+    private static boolean isNotGraphName(final String graphName) {
+        return !Keywords.DEFAULT.equals(graphName) 
+                    && !BlankNode.isWellFormed(graphName) 
+                    && !UriUtils.isAbsoluteUri(graphName);
+    }
+    
+    private static RdfResource toRdfGraphName(final String graphName) {
+        
+        if (Keywords.DEFAULT.equals(graphName)) {
+            return null;
+        }
+        
+        return BlankNode.isWellFormed(graphName)
+                    ? com.tangem.rdf.Rdf.createBlankNode(graphName)
+                    : com.tangem.rdf.Rdf.createIRI(graphName);
+    }
+    
+    private boolean isParallel() {
+        
+        if (!parallel) {
+            return false;
+        }
+        
+        int subjects = 0;
+        
+        for (final String graphName : nodeMap.graphs(false)) {
+            subjects += nodeMap.subjects(graphName).size();
+        }
+        
+        return subjects >= PARALLEL_THRESHOLD;
+    }
+    
+    private void buildParallel(final Consumer<RdfNQuad> consumer) throws JsonLdError {
+
+        final List<Batch> batches = new ArrayList<>();
+        
+        // 1.
+        for (final String graphName : nodeMap.graphs(ordered)) {
+
+            // 1.1.
+            if (isNotGraphName(graphName)) {
+                continue;
             }
             
-            // 1.3.
-            for (final String subject : nodeMap.subjects(graphName, true)) {
-                
-                final RdfResource rdfSubject;
+            // 1.2.
+            final RdfResource rdfGraphName = toRdfGraphName(graphName);
 
-                // 1.3.1.
-                if (BlankNode.isWellFormed(subject)) {
-                    rdfSubject = com.tangem.rdf.Rdf.createBlankNode(subject);
-                    
-                } else if (UriUtils.isAbsoluteUri(subject)) {
-                    rdfSubject = com.tangem.rdf.Rdf.createIRI(subject);
-                    
-                } else {
-                    continue;                    
+            final String[] subjects = nodeMap.subjects(graphName, ordered).toArray(new String[0]);
+            
+            for (int from = 0; from < subjects.length; from += PARALLEL_BATCH) {
+                batches.add(new Batch(graphName, rdfGraphName, subjects, from, Math.min(from + PARALLEL_BATCH, subjects.length)));
+            }
+        }
+        
+        try {
+            ForkJoinPool.commonPool().invoke(new ConversionTask(batches, 0, batches.size()));
+
+        } catch (CompletionException e) {
+
+            // a failure might have been re-wrapped when joining a task run by another worker
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof JsonLdError) {
+                    throw (JsonLdError) cause;
+                }
+            }
+            throw e;
+        }
+        
+        // merge in the sequential order, so blank node identifiers are the same 
+        for (final Batch batch : batches) {
+            batch.merge(consumer);
+        }
+    }
+    
+    /**
+     * Subjects of a graph converted by a single task. N-Quads are collected
+     * with temporary blank node identifiers, replaced when merged.
+     */
+    private final class Batch {
+        
+        private final String graphName;
+        private final RdfResource rdfGraphName;
+        private final String[] subjects;
+        private final int from;
+        private final int to;
+        
+        private BlankNodeIdGenerator generator;
+        private List<RdfNQuad> nquads;
+
+        Batch(final String graphName, final RdfResource rdfGraphName, final String[] subjects, final int from, final int to) {
+            this.graphName = graphName;
+            this.rdfGraphName = rdfGraphName;
+            this.subjects = subjects;
+            this.from = from;
+            this.to = to;
+        }
+        
+        void build() throws JsonLdError {
+            
+            generator = new BlankNodeIdGenerator(BATCH_BLANK_NODE_PREFIX);
+            nquads = new ArrayList<>();
+            
+            final NodeMap identifiers = new NodeMap(generator);
+            
+            for (int i = from; i < to; i++) {
+                JsonLdToRdf.this.build(graphName, rdfGraphName, subjects[i], identifiers, nquads::add);
+            }
+        }
+        
+        void merge(final Consumer<RdfNQuad> consumer) {
+            
+            if (generator.getCount() == 0) {
+                nquads.forEach(consumer);
+                return;
+            }
+            
+            // created in the same order as a sequential conversion would do
+            final String[] blankNodes = new String[generator.getCount()];
+            
+            for (int i = 0; i < blankNodes.length; i++) {
+                blankNodes[i] = nodeMap.createIdentifier();
+            }
+
+            for (final RdfNQuad nquad : nquads) {
+                
+                final RdfResource subject = (RdfResource) replace(nquad.getSubject(), blankNodes);
+                final RdfValue object = replace(nquad.getObject(), blankNodes);
+                
+                if (subject == nquad.getSubject() && object == nquad.getObject()) {
+                    consumer.accept(nquad);
+                    continue;
                 }
                 
-                // 1.3.2.
-                for (final String property : nodeMap.properties(graphName, subject, true)) {
+                consumer.accept(com.tangem.rdf.Rdf.createNQuad(subject, nquad.getPredicate(), object, rdfGraphName));
+            }
+        }
+        
+        private RdfValue replace(final RdfValue value, final String[] blankNodes) {
+            
+            if (value.isBlankNode() && value.getValue().startsWith(BATCH_BLANK_NODE_PREFIX)) {
+                return com.tangem.rdf.Rdf.createBlankNode(blankNodes[Integer.parseInt(value.getValue().substring(BATCH_BLANK_NODE_PREFIX.length()))]);
+            }
+            
+            return value;
+        }
+    }
+    
+    /**
+     * Converts a range of batches, splitting it in halves until it reaches a single batch.
+     */
+    private final class ConversionTask extends RecursiveAction {
 
-                    // 1.3.2.1.
-                    if (Keywords.TYPE.equals(property)) {
-                        
-                        for (JsonValue type : nodeMap.get(graphName, subject, property).asJsonArray()) { 
-                        
-                            if (JsonUtils.isNotString(type)) {
-                                continue;
-                            }
-                            
-                            final String typeString = ((JsonString)type).getString();
-
-                            final RdfValue rdfObject;
-                            
-                            if (BlankNode.isWellFormed(typeString)) {
-                                rdfObject = com.tangem.rdf.Rdf.createBlankNode(typeString);
-                                
-                            } else if (UriUtils.isAbsoluteUri(typeString)) {
-                                rdfObject = com.tangem.rdf.Rdf.createIRI(typeString);
-                                
-                            } else {
-                                continue;
-                            }
-
-                            dataset.add(com.tangem.rdf.Rdf.createNQuad(
-                                                rdfSubject,
-                                                com.tangem.rdf.Rdf.createIRI(RdfConstants.TYPE),
-                                                rdfObject,
-                                                rdfGraphName
-                                            ));
-                        }
-
-                    // 1.3.2.2.
-                    } else if (!Keywords.contains(property) 
-                                    && ((BlankNode.isWellFormed(property) && !produceGeneralizedRdf) 
-                                     || UriUtils.isAbsoluteUri(property))) {
-                        
-                        // 1.3.2.5.
-                        for (JsonValue item : nodeMap.get(graphName, subject, property).asJsonArray()) {
-                        
-                            // 1.3.2.5.1.
-                            final List<RdfTriple> listTriples = new ArrayList<>();
-
-                            // 1.3.2.5.2.                            
-                            ObjectToRdf
-                                    .with(item.asJsonObject(), listTriples, nodeMap)
-                                    .rdfDirection(rdfDirection)
-                                    .build()
-                                    .ifPresent(rdfObject ->
-                                                        dataset.add(com.tangem.rdf.Rdf.createNQuad(
-                                                                    rdfSubject,
-                                                                    com.tangem.rdf.Rdf.createResource(property),
-                                                                    rdfObject,
-                                                                    rdfGraphName
-                                                                    )));
-                            // 1.3.2.5.3.
-                            listTriples.stream()
-                                        .map(triple -> Rdf.createNQuad(triple, rdfGraphName))
-                                        .forEach(dataset::add);
-                        }
-                    }   
-                }   
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Batch> batches;
+        private final int from;
+        private final int to;
+
+        ConversionTask(final List<Batch> batches, final int from, final int to) {
+            this.batches = batches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (to - from > 1) {
+
+                final int middle = (from + to) >>> 1;
+
+                invokeAll(new ConversionTask(batches, from, middle), new ConversionTask(batches, middle, to));
+                return;
+            }
+
+            try {
+                for (int i = from; i < to; i++) {
+                    batches.get(i).build();
+                }
+
+            } catch (JsonLdError e) {
+                throw new CompletionException(e);
             }
         }
-        return dataset;
     }
 }
@@ -20,7 +20,6 @@ import java.io.Reader;
 import java.net.URI;
 import java.util.Optional;
 
-import javax.json.Json;
 import javax.json.JsonException;
 import javax.json.JsonStructure;
 import javax.json.JsonValue;
@@ -28,6 +27,7 @@ import javax.json.stream.JsonParser;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.http.media.MediaType;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.api.JsonLdError;
 
@@ -107,7 +107,7 @@ public final class JsonDocument implements Document {
             throw new IllegalArgumentException("The input stream parameter cannot be null.");
         }
         
-        try (final JsonParser parser = Json.createParser(is)) {
+        try (final JsonParser parser = JsonBackend.createParser(is)) {
 
             return doParse(contentType, parser);
             
@@ -143,7 +143,7 @@ public final class JsonDocument implements Document {
             throw new IllegalArgumentException("The reader parameter cannot be null.");
         }
         
-        try (final JsonParser parser = Json.createParser(reader)) {
+        try (final JsonParser parser = JsonBackend.createParser(reader)) {
 
             return doParse(contentType, parser);
             
@@ -152,6 +152,33 @@ public final class JsonDocument implements Document {
         }
     }
     
+    /**
+     * Create a new document from content provided by {@link JsonParser}.
+     * The parser is not closed.
+     *
+     * @param contentType reflecting the provided content, e.g. {@link MediaType#JSON_LD}, any JSON based media type is allowed
+     * @param parser positioned before the document's top level element
+     * @return {@link Document} representing JSON document
+     *
+     * @throws com.tangem.jsonld.api.JsonLdError
+     */
+    public static final JsonDocument of(final MediaType contentType, final JsonParser parser)  throws com.tangem.jsonld.api.JsonLdError {
+
+        assertContentType(contentType);
+
+        if (parser == null) {
+            throw new IllegalArgumentException("The parser parameter cannot be null.");
+        }
+
+        try {
+
+            return doParse(contentType, parser);
+
+        } catch (JsonException | IllegalStateException e) {
+            throw new com.tangem.jsonld.api.JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+    }
+
     private static final JsonDocument doParse(final MediaType contentType, final JsonParser parser) throws com.tangem.jsonld.api.JsonLdError {
         
         if (!parser.hasNext()) {
@@ -15,12 +15,14 @@
  */
 package com.tangem.jsonld.document;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.net.URI;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import javax.json.JsonException;
 
@@ -34,6 +36,8 @@ import com.tangem.rdf.io.error.UnsupportedContentException;
 
 public final class RdfDocument implements Document {
 
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final MediaType contentType;
     private final com.tangem.rdf.RdfDataset dataset;
     private final String profile;
@@ -85,13 +89,21 @@ public final class RdfDocument implements Document {
         return of(MediaType.N_QUADS, is);
     }
     
+    /**
+     * Create a new document from content provided by {@link InputStream}. 
+     * A gzip compressed content is decompressed while being read.
+     *
+     * @param type of the content
+     * @param is representing parsed RDF content
+     * @return {@link Document} representing RDF document
+     */
     public static final Document of(final MediaType type, final InputStream is)  throws com.tangem.jsonld.api.JsonLdError {
         
         assertContentType(type);
         
         try {
 
-            com.tangem.rdf.RdfDataset dataset  = com.tangem.rdf.Rdf.createReader(type, is).readDataset();
+            com.tangem.rdf.RdfDataset dataset  = com.tangem.rdf.Rdf.createReader(type, decompress(is)).readDataset();
 
             return new RdfDocument(type, null, dataset);
             
@@ -125,6 +137,27 @@ public final class RdfDocument implements Document {
         }
     }
     
+    private static final InputStream decompress(final InputStream is) throws IOException {
+        
+        if (is == null) {
+            return null;
+        }
+        
+        final BufferedInputStream buffered = new BufferedInputStream(is, GZIP_BUFFER_SIZE);
+        
+        buffered.mark(2);
+        
+        final int magic = buffered.read() | (buffered.read() << 8);
+        
+        buffered.reset();
+        
+        if (magic == GZIPInputStream.GZIP_MAGIC) {
+            return new GZIPInputStream(buffered, GZIP_BUFFER_SIZE);
+        }
+        
+        return buffered;
+    }
+    
     public static final boolean accepts(final MediaType contentType) {
         return com.tangem.rdf.Rdf.canRead().contains(contentType);
     }
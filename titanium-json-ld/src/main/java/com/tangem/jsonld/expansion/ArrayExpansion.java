@@ -17,14 +17,17 @@ package com.tangem.jsonld.expansion;
 
 import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonValue;
 
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.TermDefinition;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 import com.tangem.jsonld.lang.ListObject;
@@ -39,6 +42,12 @@ import com.tangem.jsonld.api.JsonLdError;
  */
 public final class ArrayExpansion {
 
+    // minimal number of members to expand an array in parallel
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    // number of members expanded sequentially by a single task
+    private static final int PARALLEL_BATCH = 256;
+
     // mandatory
     private ActiveContext activeContext;
     private JsonArray element;
@@ -86,49 +95,136 @@ public final class ArrayExpansion {
     public JsonValue expand() throws JsonLdError {
 
         // 5.1
-        final JsonArrayBuilder result = Json.createArrayBuilder();
+        final JsonArrayBuilder result = JsonBackend.createArrayBuilder();
+
+        if (isParallel()) {
+
+            // 5.2.
+            for (final JsonValue expanded : expandParallel()) {
+                append(result, expanded);
+            }
+
+            // 5.3
+            return result.build();
+        }
 
         // 5.2.
         for (final JsonValue item : element) {
+            append(result, expandItem(item));
+        }
 
-            // 5.2.1
-            JsonValue expanded = 
-                            Expansion
-                                .with(activeContext, item, activeProperty, baseUrl)
-                                .frameExpansion(frameExpansion)
-                                .ordered(ordered)
-                                .fromMap(fromMap)
-                                .compute();
+        // 5.3
+        return result.build();
+    }
 
-            final Optional<TermDefinition> definition = activeContext.getTerm(activeProperty);
+    private JsonValue expandItem(final JsonValue item) throws JsonLdError {
 
-            // 5.2.2
-            if (definition.isPresent() && definition.get().getContainerMapping() != null
-                    && definition.get().getContainerMapping().contains(Keywords.LIST) && JsonUtils.isArray(expanded)) {
+        // 5.2.1
+        JsonValue expanded = 
+                        Expansion
+                            .with(activeContext, item, activeProperty, baseUrl)
+                            .frameExpansion(frameExpansion)
+                            .ordered(ordered)
+                            .fromMap(fromMap)
+                            .compute();
 
-                expanded = ListObject.toListObject(expanded);
-            }
+        final Optional<TermDefinition> definition = activeContext.getTerm(activeProperty);
 
-            // 5.2.3
-            if (JsonUtils.isArray(expanded)) {
+        // 5.2.2
+        if (definition.isPresent() && definition.get().getContainerMapping() != null
+                && definition.get().getContainerMapping().contains(Keywords.LIST) && JsonUtils.isArray(expanded)) {
 
-                // append array
-                for (JsonValue expandedItem : expanded.asJsonArray()) {
+            expanded = ListObject.toListObject(expanded);
+        }
+
+        return expanded;
+    }
 
-                    if (JsonUtils.isNull(expandedItem)) {
-                        continue;
-                    }
+    private static void append(final JsonArrayBuilder result, final JsonValue expanded) {
 
-                    result.add(expandedItem);
+        // 5.2.3
+        if (JsonUtils.isArray(expanded)) {
+
+            // append array
+            for (JsonValue expandedItem : expanded.asJsonArray()) {
+
+                if (JsonUtils.isNull(expandedItem)) {
+                    continue;
                 }
 
-            // append non-null element
-            } else if (JsonUtils.isNotNull(expanded)) {
-                result.add(expanded);
+                result.add(expandedItem);
             }
+
+        // append non-null element
+        } else if (JsonUtils.isNotNull(expanded)) {
+            result.add(expanded);
         }
+    }
 
-        // 5.3
-        return result.build();
+    private boolean isParallel() {
+        return element.size() >= PARALLEL_THRESHOLD
+                && (activeProperty == null || Keywords.GRAPH.equals(activeProperty))
+                && activeContext.getOptions() != null
+                && activeContext.getOptions().isParallelExpansion();
+    }
+
+    private JsonValue[] expandParallel() throws JsonLdError {
+
+        final JsonValue[] expanded = new JsonValue[element.size()];
+
+        try {
+            ForkJoinPool.commonPool().invoke(new ExpansionTask(expanded, 0, expanded.length));
+
+        } catch (CompletionException e) {
+
+            // a failure might have been re-wrapped when joining a task run by another worker
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof JsonLdError) {
+                    throw (JsonLdError) cause;
+                }
+            }
+            throw e;
+        }
+
+        return expanded;
+    }
+
+    /**
+     * Expands a range of array members, splitting it in halves until it reaches {@link #PARALLEL_BATCH} members.
+     */
+    private final class ExpansionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient JsonValue[] expanded;
+        private final int from;
+        private final int to;
+
+        ExpansionTask(final JsonValue[] expanded, final int from, final int to) {
+            this.expanded = expanded;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (to - from > PARALLEL_BATCH) {
+
+                final int middle = (from + to) >>> 1;
+
+                invokeAll(new ExpansionTask(expanded, from, middle), new ExpansionTask(expanded, middle, to));
+                return;
+            }
+
+            try {
+                for (int i = from; i < to; i++) {
+                    expanded[i] = expandItem(element.get(i));
+                }
+
+            } catch (JsonLdError e) {
+                throw new CompletionException(e);
+            }
+        }
     }
 }
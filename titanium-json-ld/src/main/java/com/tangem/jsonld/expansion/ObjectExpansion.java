@@ -24,7 +24,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonValue;
@@ -32,6 +31,7 @@ import javax.json.JsonValue;
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.TermDefinition;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 import com.tangem.jsonld.uri.UriUtils;
@@ -142,16 +142,20 @@ public final class ObjectExpansion {
         // 8.
         if (propertyContext != null) {
             
-            activeContext = activeContext
-                                .newContext()
-                                .overrideProtected(true)
-                                .create(
-                                    propertyContext, 
-                                    activeContext
-                                            .getTerm(activeProperty)
-                                            .map(TermDefinition::getBaseUrl)
-                                            .orElse(null)    
-                                        );        
+            final Optional<TermDefinition> propertyDefinition = activeContext.getTerm(activeProperty);
+            
+            final URI propertyBaseUrl = propertyDefinition.map(TermDefinition::getBaseUrl).orElse(null);
+            
+            // reuse the context derived from the definition unless a previous context has been restored
+            activeContext = propertyDefinition.filter(definition -> definition.getLocalContext() == propertyContext).isPresent()
+                                ? activeContext
+                                    .newContext()
+                                    .overrideProtected(true)
+                                    .create(propertyDefinition.get(), propertyBaseUrl)
+                                : activeContext
+                                    .newContext()
+                                    .overrideProtected(true)
+                                    .create(propertyContext, propertyBaseUrl);
         }
     }
     
@@ -238,9 +242,9 @@ public final class ObjectExpansion {
 
             for (final String term : terms) {
 
-                Optional<JsonValue> localContext = typeContext.getTerm(term).map(TermDefinition::getLocalContext);
+                Optional<TermDefinition> typeDefinition = typeContext.getTerm(term).filter(TermDefinition::hasLocalContext);
 
-                if (localContext.isPresent()) {
+                if (typeDefinition.isPresent()) {
                     
                     Optional<TermDefinition> valueDefinition = activeContext.getTerm(term);
 
@@ -248,7 +252,7 @@ public final class ObjectExpansion {
                             activeContext
                                 .newContext()
                                 .propagate(false)
-                                .create(localContext.get(),
+                                .create(typeDefinition.get(),
                                         valueDefinition
                                                 .map(TermDefinition::getBaseUrl)
                                                 .orElse(null)
@@ -350,7 +354,7 @@ public final class ObjectExpansion {
         final JsonValue value = result.get(Keywords.TYPE);
 
         if (JsonUtils.isNotArray(value) && JsonUtils.isNotNull(value)) {
-            result.put(Keywords.TYPE, Json.createArrayBuilder().add(value).build());
+            result.put(Keywords.TYPE, JsonBackend.createArrayBuilder().add(value).build());
         }
         return normalize(result);
     }
@@ -27,7 +27,6 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
@@ -38,6 +37,7 @@ import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.TermDefinition;
 import com.tangem.jsonld.expansion.Expansion;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.DefaultObject;
 import com.tangem.jsonld.lang.DirectionType;
@@ -197,7 +197,7 @@ final class ObjectExpansion1314 {
 
                         if (expandedStringValue != null) {
                             
-                            expandedValue = Json.createValue(expandedStringValue);
+                            expandedValue = JsonBackend.createValue(expandedStringValue);
                             
                             if (frameExpansion) {
                                 expandedValue = JsonUtils.toJsonArray(expandedValue);
@@ -206,7 +206,7 @@ final class ObjectExpansion1314 {
                         
                     } else if (JsonUtils.isObject(value)) {
                         
-                        expandedValue = Json.createArrayBuilder().add(JsonValue.EMPTY_JSON_OBJECT).build();
+                        expandedValue = JsonBackend.createArrayBuilder().add(JsonValue.EMPTY_JSON_OBJECT).build();
                         
                     } else if (JsonUtils.isEmptyArray(value)) {
                         
@@ -214,7 +214,7 @@ final class ObjectExpansion1314 {
                         
                     } else if (JsonUtils.isArray(value))  {
                         
-                        final JsonArrayBuilder array = Json.createArrayBuilder();
+                        final JsonArrayBuilder array = JsonBackend.createArrayBuilder();
                         
                         for (final JsonValue item : JsonUtils.toJsonArray(value)) {
 
@@ -267,7 +267,7 @@ final class ObjectExpansion1314 {
 
                         value = DefaultObject.getValue(value);
 
-                        expandedValue = Json.createObjectBuilder()
+                        expandedValue = JsonBackend.createObjectBuilder()
                                 .add(Keywords.DEFAULT,
                                         typeContext
                                                 .uriExpansion()
@@ -289,12 +289,12 @@ final class ObjectExpansion1314 {
                                             .expand(((JsonString) value).getString());
 
                             if (expandedStringValue != null) {
-                                expandedValue = Json.createValue(expandedStringValue);
+                                expandedValue = JsonBackend.createValue(expandedStringValue);
                             }
 
                         } else if (JsonUtils.isArray(value)) {
 
-                            JsonArrayBuilder array = Json.createArrayBuilder();
+                            JsonArrayBuilder array = JsonBackend.createArrayBuilder();
 
                             for (JsonValue item : value.asJsonArray()) {
 
@@ -308,7 +308,7 @@ final class ObjectExpansion1314 {
                                                 .expand(((JsonString) item).getString());
 
                                     if (expandedStringValue != null) {
-                                        array.add(Json.createValue(expandedStringValue));
+                                        array.add(JsonBackend.createValue(expandedStringValue));
                                     }
                                 }
                             }
@@ -322,10 +322,10 @@ final class ObjectExpansion1314 {
                         JsonValue typeValue = result.get(Keywords.TYPE);
 
                         if (JsonUtils.isArray(typeValue)) {
-                            expandedValue = Json.createArrayBuilder(typeValue.asJsonArray()).add(expandedValue).build();
+                            expandedValue = JsonBackend.createArrayBuilder(typeValue.asJsonArray()).add(expandedValue).build();
 
                         } else {
-                            expandedValue = Json.createArrayBuilder().add(typeValue).add(expandedValue).build();
+                            expandedValue = JsonBackend.createArrayBuilder().add(typeValue).add(expandedValue).build();
                         }
                     }
                 }
@@ -359,7 +359,7 @@ final class ObjectExpansion1314 {
                     if (JsonUtils.isNotNull(expandedValue)) {
 
                         if (JsonUtils.isNotArray(expandedValue)) {
-                            expandedValue = Json.createArrayBuilder().add(expandedValue).build();
+                            expandedValue = JsonBackend.createArrayBuilder().add(expandedValue).build();
                         }
 
                         // 13.4.6.3
@@ -370,7 +370,7 @@ final class ObjectExpansion1314 {
                         // 13.4.6.4
                         if (result.containsKey(Keywords.INCLUDED)) {
 
-                            JsonArrayBuilder includes = Json
+                            JsonArrayBuilder includes = JsonBackend
                                     .createArrayBuilder(result.get(Keywords.INCLUDED).asJsonArray());
 
                             expandedValue.asJsonArray().forEach(includes::add);
@@ -440,7 +440,7 @@ final class ObjectExpansion1314 {
                         }                        
                         
                         // 13.4.8.2
-                        expandedValue = JsonUtils.isString(value) ? Json.createValue(((JsonString)value).getString().toLowerCase()) : value;
+                        expandedValue = JsonUtils.isString(value) ? JsonBackend.createValue(((JsonString)value).getString().toLowerCase()) : value;
                         
                         if (frameExpansion) {
                             expandedValue = JsonUtils.toJsonArray(expandedValue);
@@ -509,7 +509,7 @@ final class ObjectExpansion1314 {
                                         .compute();
 
                     if (JsonUtils.isNotArray(expandedValue)) {
-                        expandedValue = Json.createArrayBuilder().add(expandedValue).build();
+                        expandedValue = JsonBackend.createArrayBuilder().add(expandedValue).build();
                     }
                 }
 
@@ -602,7 +602,7 @@ final class ObjectExpansion1314 {
                 // 13.4.14
                 if (Keywords.NEST.equals(expandedProperty)) {
                     if (!nest.containsKey(key)) {
-                        nest.put(key, Json.createArrayBuilder().build());
+                        nest.put(key, JsonBackend.createArrayBuilder().build());
                     }
                     continue;
                 }
@@ -646,14 +646,14 @@ final class ObjectExpansion1314 {
             if (keyTermDefinition.isPresent()
                     && Keywords.JSON.equals(keyTermDefinition.get().getTypeMapping())) {
 
-                expandedValue = Json.createObjectBuilder().add(Keywords.VALUE, value)
-                        .add(Keywords.TYPE, Json.createValue(Keywords.JSON)).build();
+                expandedValue = JsonBackend.createObjectBuilder().add(Keywords.VALUE, value)
+                        .add(Keywords.TYPE, JsonBackend.createValue(Keywords.JSON)).build();
 
             // 13.7.
             } else if (containerMapping.contains(Keywords.LANGUAGE) && JsonUtils.isObject(value)) {
 
                 // 13.7.1.
-                expandedValue = Json.createArrayBuilder().build();
+                expandedValue = JsonBackend.createArrayBuilder().build();
 
                 // 13.7.2.
                 DirectionType direction = activeContext.getDefaultBaseDirection();
@@ -676,7 +676,7 @@ final class ObjectExpansion1314 {
 
                     // 13.7.4.1.
                     if (JsonUtils.isNotArray(langValue)) {
-                        langValue = Json.createArrayBuilder().add(langValue).build();
+                        langValue = JsonBackend.createArrayBuilder().add(langValue).build();
                     }
 
                     // 13.7.4.2.
@@ -693,7 +693,7 @@ final class ObjectExpansion1314 {
                         }
 
                         // 13.7.4.2.3.
-                        JsonObjectBuilder langMap = Json.createObjectBuilder().add(Keywords.VALUE, item);
+                        JsonObjectBuilder langMap = JsonBackend.createObjectBuilder().add(Keywords.VALUE, item);
 
                         // 13.7.4.2.4.
                         if (!Keywords.NONE.equals(langCode)) {
@@ -710,17 +710,17 @@ final class ObjectExpansion1314 {
                                     LOGGER.log(Level.WARNING, "Language tag [{0}] is not well formed.", langCode);
                                 }                        
          
-                                langMap.add(Keywords.LANGUAGE, Json.createValue(langCode.toLowerCase()));
+                                langMap.add(Keywords.LANGUAGE, JsonBackend.createValue(langCode.toLowerCase()));
                             }
                         }
 
                         // 13.7.4.2.5.
                         if (direction != null && !DirectionType.NULL.equals(direction)) {
-                            langMap.add(Keywords.DIRECTION, Json.createValue(direction.name().toLowerCase()));
+                            langMap.add(Keywords.DIRECTION, JsonBackend.createValue(direction.name().toLowerCase()));
                         }
 
                         // 13.7.4.2.6.
-                        expandedValue = Json.createArrayBuilder(expandedValue.asJsonArray()).add(langMap).build();
+                        expandedValue = JsonUtils.append(expandedValue, langMap.build());
                     }
                 }
 
@@ -729,7 +729,7 @@ final class ObjectExpansion1314 {
                     || containerMapping.contains(Keywords.ID)) && JsonUtils.isObject(value)) {
 
                 // 13.8.1.
-                expandedValue = Json.createArrayBuilder().build();
+                expandedValue = JsonBackend.createArrayBuilder().build();
 
                 // 13.8.2.
                 final String indexKey = keyTermDefinition
@@ -767,7 +767,7 @@ final class ObjectExpansion1314 {
                                 mapContext
                                     .newContext()
                                     .create(
-                                        indexTermDefinition.get().getLocalContext(), 
+                                        indexTermDefinition.get(), 
                                         indexTermDefinition.get().getBaseUrl());
                     }
 
@@ -785,7 +785,7 @@ final class ObjectExpansion1314 {
 
                     // 13.8.3.5.
                     if (JsonUtils.isNotArray(indexValue)) {
-                        indexValue = Json.createArrayBuilder().add(indexValue).build();
+                        indexValue = JsonBackend.createArrayBuilder().add(indexValue).build();
                     }
 
                     // 13.8.3.6.
@@ -806,7 +806,7 @@ final class ObjectExpansion1314 {
 
                             // 13.8.3.7.2.1.
                             JsonValue reExpandedIndex = activeContext.valueExpansion()
-                                    .expand(Json.createValue(index), indexKey);
+                                    .expand(JsonBackend.createValue(index), indexKey);
 
                             // 13.8.3.7.2.2.
                             String expandedIndexKey = 
@@ -816,7 +816,7 @@ final class ObjectExpansion1314 {
                                             .expand(indexKey);
 
                             // 13.8.3.7.2.3.
-                            JsonArrayBuilder indexPropertyValues = Json.createArrayBuilder().add(reExpandedIndex);
+                            JsonArrayBuilder indexPropertyValues = JsonBackend.createArrayBuilder().add(reExpandedIndex);
 
                             JsonValue existingValues = item.asJsonObject().get(expandedIndexKey);
 
@@ -830,7 +830,7 @@ final class ObjectExpansion1314 {
                             }
 
                             // 13.8.3.7.2.4.
-                            item = Json.createObjectBuilder(item.asJsonObject())
+                            item = JsonBackend.createObjectBuilder(item.asJsonObject())
                                     .add(expandedIndexKey, indexPropertyValues).build();
 
                             
@@ -844,7 +844,7 @@ final class ObjectExpansion1314 {
                                 && !item.asJsonObject().containsKey(Keywords.INDEX)
                                 && !Keywords.NONE.equals(expandedIndex)) {
 
-                            item = Json.createObjectBuilder(item.asJsonObject()).add(Keywords.INDEX, index).build();
+                            item = JsonBackend.createObjectBuilder(item.asJsonObject()).add(Keywords.INDEX, index).build();
 
                         // 13.8.3.7.4.
                         } else if (containerMapping.contains(Keywords.ID)
@@ -857,13 +857,13 @@ final class ObjectExpansion1314 {
                                                 .documentRelative(true)
                                                 .expand(index);
 
-                            item = Json.createObjectBuilder(item.asJsonObject()).add(Keywords.ID, expandedIndex)
+                            item = JsonBackend.createObjectBuilder(item.asJsonObject()).add(Keywords.ID, expandedIndex)
                                     .build();
 
                         // 13.8.3.7.5.
                         } else if (containerMapping.contains(Keywords.TYPE) && !Keywords.NONE.equals(expandedIndex)) {
 
-                            JsonArrayBuilder types = Json.createArrayBuilder().add(expandedIndex);
+                            JsonArrayBuilder types = JsonBackend.createArrayBuilder().add(expandedIndex);
 
                             JsonValue existingType = item.asJsonObject().get(Keywords.TYPE);
                             if (JsonUtils.isNotNull(existingType)) {
@@ -877,12 +877,12 @@ final class ObjectExpansion1314 {
                                 }
                             }
 
-                            item = Json.createObjectBuilder(item.asJsonObject()).add(Keywords.TYPE, types).build();
+                            item = JsonBackend.createObjectBuilder(item.asJsonObject()).add(Keywords.TYPE, types).build();
 
                         }
                         
                         // 13.8.3.7.6.
-                        expandedValue = Json.createArrayBuilder(expandedValue.asJsonArray()).add(item).build();
+                        expandedValue = JsonUtils.append(expandedValue, item);
                     }
                 }
 
@@ -913,7 +913,7 @@ final class ObjectExpansion1314 {
 
                 expandedValue = JsonUtils.toJsonArray(expandedValue);
 
-                JsonArrayBuilder array = Json.createArrayBuilder();
+                JsonArrayBuilder array = JsonBackend.createArrayBuilder();
 
                 for (JsonValue ev : expandedValue.asJsonArray()) {
                         array.add(GraphObject.toGraphObject(ev));
@@ -951,7 +951,7 @@ final class ObjectExpansion1314 {
 
                     // 13.13.4.2.
                     if (!reverseMap.containsKey(expandedProperty)) {
-                        reverseMap.put(expandedProperty, Json.createArrayBuilder().build());
+                        reverseMap.put(expandedProperty, JsonBackend.createArrayBuilder().build());
                     }
 
                     // 13.13.4.3.
@@ -979,7 +979,7 @@ final class ObjectExpansion1314 {
             JsonValue nestedValues = element.get(nestedKey);
 
             if (JsonUtils.isNotArray(nestedValues)) {
-                nestedValues = Json.createArrayBuilder().add(nestedValues).build();
+                nestedValues = JsonBackend.createArrayBuilder().add(nestedValues).build();
             }
 
             // 14.2.
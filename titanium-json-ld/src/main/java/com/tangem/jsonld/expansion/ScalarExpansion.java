@@ -15,6 +15,8 @@
  */
 package com.tangem.jsonld.expansion;
 
+import java.util.Optional;
+
 import javax.json.JsonValue;
 
 import com.tangem.jsonld.context.ActiveContext;
@@ -69,12 +71,18 @@ public final class ScalarExpansion {
          */
         if (propertyContext != null) {
             
-            activeContext = activeContext
-                                .newContext()
-                                .create(
-                                    propertyContext,
-                                    activeContext.getTerm(activeProperty).map(TermDefinition::getBaseUrl).orElse(null)                                    
-                                );
+            final Optional<TermDefinition> propertyDefinition = activeContext.getTerm(activeProperty);
+            
+            activeContext = propertyDefinition.filter(definition -> definition.getLocalContext() == propertyContext).isPresent()
+                                ? activeContext
+                                    .newContext()
+                                    .create(propertyDefinition.get(), propertyDefinition.get().getBaseUrl())
+                                : activeContext
+                                    .newContext()
+                                    .create(
+                                        propertyContext,
+                                        propertyDefinition.map(TermDefinition::getBaseUrl).orElse(null)                                    
+                                    );
         }
 
         /*
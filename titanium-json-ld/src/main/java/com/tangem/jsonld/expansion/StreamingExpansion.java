@@ -0,0 +1,266 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.expansion;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import com.tangem.jsonld.api.JsonLdError;
+import com.tangem.jsonld.api.JsonLdErrorCode;
+import com.tangem.jsonld.context.ActiveContext;
+import com.tangem.jsonld.json.JsonBackend;
+import com.tangem.jsonld.json.JsonUtils;
+import com.tangem.jsonld.lang.Keywords;
+
+/**
+ * Expands a document directly from {@link JsonParser} events and emits expanded
+ * node objects one by one, without building the input or the expanded tree.
+ * <p>
+ * Members of a top-level array and of a top-level <code>@graph</code> array are read
+ * and expanded one at a time. A top-level map is streamed when only <code>@context</code>
+ * entries precede its <code>@graph</code> array, any other map is read as a whole and
+ * expanded at once.
+ * </p>
+ * <p>
+ * A streamed map must end with its <code>@graph</code> entry. The members have been
+ * emitted by the time a following entry is read, e.g. <code>@id</code> of a named graph,
+ * so such a document is rejected with {@link JsonLdErrorCode#LOADING_DOCUMENT_FAILED}
+ * although it is valid JSON-LD. Write <code>@graph</code> last or expand it as a whole.
+ * </p>
+ * 
+ * @see <a href=
+ *      "https://www.w3.org/TR/json-ld11-api/#expansion-algorithm">Expansion
+ *      Algorithm</a>
+ *
+ */
+public final class StreamingExpansion {
+
+    private enum State { START, ARRAY, GRAPH, END }
+
+    // mandatory
+    private ActiveContext activeContext;
+    private JsonParser parser;
+    private URI baseUrl;
+
+    // optional
+    private boolean ordered;
+
+    private final Deque<JsonObject> pending;
+
+    private State state;
+
+    private StreamingExpansion(final ActiveContext activeContext, final JsonParser parser, final URI baseUrl) {
+        this.activeContext = activeContext;
+        this.parser = parser;
+        this.baseUrl = baseUrl;
+
+        // default values
+        this.ordered = false;
+
+        this.pending = new ArrayDeque<>();
+        this.state = State.START;
+    }
+
+    public static final StreamingExpansion with(final ActiveContext activeContext, final JsonParser parser, final URI baseUrl) {
+        return new StreamingExpansion(activeContext, parser, baseUrl);
+    }
+
+    public StreamingExpansion ordered(boolean value) {
+        this.ordered = value;
+        return this;
+    }
+
+    public void expand(final Consumer<JsonObject> consumer) throws JsonLdError {
+
+        JsonObject node;
+
+        while ((node = next()) != null) {
+            consumer.accept(node);
+        }
+    }
+
+    /**
+     * Reads and expands the next top-level node.
+     * 
+     * @return the next expanded node object or <code>null</code> if there are no more nodes
+     * @throws JsonLdError
+     */
+    public JsonObject next() throws JsonLdError {
+
+        try {
+
+            while (pending.isEmpty() && !State.END.equals(state)) {
+
+                if (State.START.equals(state)) {
+                    start();
+
+                } else {
+                    nextItem();
+                }
+            }
+
+        } catch (JsonException | IllegalStateException e) {
+            state = State.END;
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+        }
+
+        return pending.poll();
+    }
+
+    private void start() throws JsonLdError {
+
+        if (!parser.hasNext()) {
+            state = State.END;
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Nothing to read. Provided document is empty.");
+        }
+
+        final Event event = parser.next();
+
+        if (Event.START_ARRAY.equals(event)) {
+            state = State.ARRAY;
+
+        } else if (Event.START_OBJECT.equals(event)) {
+            startObject();
+
+        } else {
+            state = State.END;
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "JSON document's top level element must be JSON array or object.");
+        }
+    }
+
+    private void startObject() throws JsonLdError {
+
+        final ActiveContext initialContext = activeContext;
+
+        final JsonObjectBuilder object = JsonBackend.createObjectBuilder();
+
+        Event event = parser.next();
+
+        // leading @context entries are applied as they come
+        while (!Event.END_OBJECT.equals(event)) {
+
+            final String key = parser.getString();
+
+            final Event valueEvent = parser.next();
+
+            if (Keywords.CONTEXT.equals(key)) {
+
+                final JsonValue context = parser.getValue();
+
+                activeContext = activeContext.newContext().create(context, baseUrl);
+
+                object.add(key, context);
+
+                event = parser.next();
+                continue;
+            }
+
+            if (Event.START_ARRAY.equals(valueEvent)
+                    && Keywords.GRAPH.equals(activeContext.uriExpansion().vocab(true).expand(key))) {
+
+                state = State.GRAPH;
+                return;
+            }
+
+            object.add(key, parser.getValue());
+            break;
+        }
+
+        // not a streamable document, read the rest and expand as a whole
+        if (!Event.END_OBJECT.equals(event)) {
+
+            while (!Event.END_OBJECT.equals(parser.next())) {
+
+                final String key = parser.getString();
+
+                parser.next();
+
+                object.add(key, parser.getValue());
+            }
+        }
+
+        JsonValue expanded = Expansion
+                                .with(initialContext, object.build(), null, baseUrl)
+                                .ordered(ordered)
+                                .compute();
+
+        if (JsonUtils.isObject(expanded)) {
+
+            final JsonObject result = expanded.asJsonObject();
+
+            if (result.size() == 1 && result.containsKey(Keywords.GRAPH)) {
+                expanded = result.get(Keywords.GRAPH);
+            }
+        }
+
+        add(expanded);
+
+        state = State.END;
+    }
+
+    private void nextItem() throws JsonLdError {
+
+        if (Event.END_ARRAY.equals(parser.next())) {
+
+            if (State.GRAPH.equals(state)) {
+                endGraph();
+            }
+
+            state = State.END;
+            return;
+        }
+
+        add(Expansion
+                .with(activeContext, parser.getValue(), State.GRAPH.equals(state) ? Keywords.GRAPH : null, baseUrl)
+                .ordered(ordered)
+                .compute());
+    }
+
+    private void endGraph() throws JsonLdError {
+
+        state = State.END;
+
+        if (!Event.END_OBJECT.equals(parser.next())) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED,
+                                    "A streamed @graph array must be the last top-level entry but is followed by [" + parser.getString() + "].");
+        }
+    }
+
+    private void add(final JsonValue expanded) {
+
+        if (JsonUtils.isArray(expanded)) {
+
+            for (final JsonValue item : expanded.asJsonArray()) {
+
+                if (JsonUtils.isNotNull(item)) {
+                    pending.add(item.asJsonObject());
+                }
+            }
+
+        } else if (JsonUtils.isNotNull(expanded)) {
+            pending.add(expanded.asJsonObject());
+        }
+    }
+}
@@ -103,6 +103,29 @@ public final class UriExpansion {
             return null;
         }
 
+        // results are remembered only for a complete active context
+        if (localContext != null) {
+            return expandValue(value);
+        }
+
+        final UriExpansionCache cache = activeContext.getUriExpansionCache();
+
+        String result = cache.get(vocab, documentRelative, value);
+
+        if (result == null) {
+
+            result = expandValue(value);
+
+            if (result != null) {
+                cache.put(vocab, documentRelative, value, result);
+            }
+        }
+
+        return result;
+    }
+
+    private String expandValue(final String value) throws JsonLdError {
+
         initLocalContext(value);
         
         Optional<TermDefinition> definition = activeContext.getTerm(value); 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.expansion;
+
+import com.tangem.jsonld.uri.UriCache;
+
+/**
+ * IRI expansion results, kept in a table for each combination of <code>vocab</code>
+ * and <code>documentRelative</code> flags.
+ * 
+ * @see UriExpansion
+ */
+public final class UriExpansionCache extends UriCache<Integer> {
+
+    private static final int MAX_SIZE = 16384;
+
+    public UriExpansionCache() {
+        super(MAX_SIZE);
+    }
+
+    String get(final boolean vocab, final boolean documentRelative, final String value) {
+        return lookup(index(vocab, documentRelative), value);
+    }
+
+    void put(final boolean vocab, final boolean documentRelative, final String value, final String result) {
+        remember(index(vocab, documentRelative), value, result);
+    }
+
+    private static final Integer index(final boolean vocab, final boolean documentRelative) {
+        return (vocab ? 1 : 0) | (documentRelative ? 2 : 0);
+    }
+}
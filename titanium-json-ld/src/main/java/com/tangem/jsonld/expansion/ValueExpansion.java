@@ -17,13 +17,13 @@ package com.tangem.jsonld.expansion;
 
 import java.util.Optional;
 
-import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.context.TermDefinition;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.DirectionType;
 import com.tangem.jsonld.lang.Keywords;
@@ -66,7 +66,7 @@ public final class ValueExpansion {
                 String expandedValue = activeContext.uriExpansion().documentRelative(true)
                         .vocab(false).expand(((JsonString) value).getString());
 
-                return Json.createObjectBuilder().add(Keywords.ID, expandedValue).build();
+                return JsonBackend.createObjectBuilder().add(Keywords.ID, expandedValue).build();
             }
 
             // 2.
@@ -75,18 +75,18 @@ public final class ValueExpansion {
                 String expandedValue = activeContext.uriExpansion().documentRelative(true)
                         .vocab(true).expand(((JsonString) value).getString());
 
-                return Json.createObjectBuilder().add(Keywords.ID, expandedValue).build();
+                return JsonBackend.createObjectBuilder().add(Keywords.ID, expandedValue).build();
             }
         }
 
         // 3.
-        result = Json.createObjectBuilder().add(Keywords.VALUE, value).build();
+        result = JsonBackend.createObjectBuilder().add(Keywords.VALUE, value).build();
 
         // 4.
         if (typeMapping.isPresent() && !Keywords.ID.equals(typeMapping.get()) && !Keywords.VOCAB.equals(typeMapping.get())
                 && !Keywords.NONE.equals(typeMapping.get())) {
 
-            result = Json.createObjectBuilder(result).add(Keywords.TYPE, Json.createValue(typeMapping.get())).build();
+            result = JsonBackend.createObjectBuilder(result).add(Keywords.TYPE, JsonBackend.createValue(typeMapping.get())).build();
 
             // 5.
         } else if (JsonUtils.isString(value)) {
@@ -106,7 +106,7 @@ public final class ValueExpansion {
             language = definition.get().getLanguageMapping();
 
         } else if (activeContext.getDefaultLanguage() != null) {
-            language = Json.createValue(activeContext.getDefaultLanguage());
+            language = JsonBackend.createValue(activeContext.getDefaultLanguage());
         }
 
         // 5.2.
@@ -116,13 +116,13 @@ public final class ValueExpansion {
         
         // 5.3.
         if (JsonUtils.isNotNull(language)) {
-            result = Json.createObjectBuilder(result).add(Keywords.LANGUAGE, language).build();
+            result = JsonBackend.createObjectBuilder(result).add(Keywords.LANGUAGE, language).build();
         }
 
         // 5.4.
         if (direction != null && !DirectionType.NULL.equals(direction)) {
-            result = Json.createObjectBuilder(result)
-                    .add(Keywords.DIRECTION, Json.createValue(direction.name().toLowerCase())).build();
+            result = JsonBackend.createObjectBuilder(result)
+                    .add(Keywords.DIRECTION, JsonBackend.createValue(direction.name().toLowerCase())).build();
         }
     }
 }
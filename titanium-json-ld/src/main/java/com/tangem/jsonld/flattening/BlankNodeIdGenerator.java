@@ -30,15 +30,35 @@ public final class BlankNodeIdGenerator {
 
     private final Map<String, String> map;
     
+    private final String prefix;
+    
     private Integer counter;
     
     public BlankNodeIdGenerator() {
+        this("_:b");
+    }
+
+    /**
+     * Creates a generator of <code>prefix + n</code> identifiers, e.g. temporary
+     * identifiers replaced later by identifiers of another generator.
+     * 
+     * @param prefix of generated identifiers
+     */
+    public BlankNodeIdGenerator(final String prefix) {
         this.map = new HashMap<>();
+        this.prefix = prefix;
         this.counter = 0;
     }
 
     public String createIdentifier() {
-        return "_:b".concat(Integer.toString(counter++));
+        return prefix.concat(Integer.toString(counter++));
+    }
+    
+    /**
+     * @return the number of identifiers created so far
+     */
+    public int getCount() {
+        return counter;
     }
 
     public String createIdentifier(String identifier) {
@@ -18,11 +18,11 @@ package com.tangem.jsonld.flattening;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -32,6 +32,7 @@ import javax.json.JsonValue;
 
 import com.tangem.jsonld.flattening.NodeMap;
 import com.tangem.jsonld.flattening.NodeMapBuilder;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 import com.tangem.jsonld.api.JsonLdError;
@@ -69,7 +70,7 @@ public final class Flattening {
         NodeMapBuilder.with(element, nodeMap).build();
         
         // 3.
-        Map<String, JsonObject> defaultGraph = nodeMap.get(Keywords.DEFAULT);
+        Map<String, JsonObject> defaultGraph = new LinkedHashMap<>(nodeMap.get(Keywords.DEFAULT));
 
         // 4.
         for (String graphName : nodeMap.graphs(ordered)) {
@@ -82,14 +83,14 @@ public final class Flattening {
             
             // 4.1.
             if (!defaultGraph.containsKey(graphName)) {
-                defaultGraph.put(graphName, Json.createObjectBuilder().add(Keywords.ID, graphName).build());
+                defaultGraph.put(graphName, JsonBackend.createObjectBuilder().add(Keywords.ID, graphName).build());
             }
             
             // 4.2.
-            JsonObjectBuilder entry = Json.createObjectBuilder(defaultGraph.get(graphName).asJsonObject());
+            JsonObjectBuilder entry = JsonBackend.createObjectBuilder(defaultGraph.get(graphName).asJsonObject());
             
             // 4.3.
-            JsonArrayBuilder graphArray =  Json.createArrayBuilder();
+            JsonArrayBuilder graphArray =  JsonBackend.createArrayBuilder();
             
             // 4.4.
             List<String> ids = new ArrayList<>(graph.keySet());
@@ -15,30 +15,67 @@
  */
 package com.tangem.jsonld.flattening;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.json.Json;
-import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 
+/**
+ * Node map storing subject and property names just once, interned in a table
+ * shared by all graphs. A node keeps its properties as arrays of the interned
+ * property ids and values.
+ * <p>
+ * Graphs and nodes are returned as read-only views reflecting later changes.
+ * A node is converted to {@link JsonObject} once and again only after it has
+ * been modified.
+ */
 public final class NodeMap {
 
-    private final Map<String, Map<String, Map<String, JsonValue>>> index;
+    // nodes having more properties are indexed by a hash table instead of a linear search
+    private static final int LINEAR_SEARCH_LIMIT = 16;
+
+    private final Map<String, Graph> index;
+    
+    // interned subject and property names
+    private final Map<String, Integer> ids;
+    private final List<String> names;
     
-    private final BlankNodeIdGenerator generator = new BlankNodeIdGenerator();
+    private final BlankNodeIdGenerator generator;
     
     public NodeMap() {
+        this(new BlankNodeIdGenerator());
+    }
+
+    /**
+     * Creates an empty node map sharing the given blank node identifier generator,
+     * e.g. when a document is processed as a sequence of independent node maps.
+     * 
+     * @param generator used to create and map blank node identifiers
+     */
+    public NodeMap(final BlankNodeIdGenerator generator) {
         this.index = new LinkedHashMap<>();
-        this.index.put(Keywords.DEFAULT, new LinkedHashMap<>());
+        this.ids = new HashMap<>();
+        this.names = new ArrayList<>();
+        this.index.put(Keywords.DEFAULT, new Graph());
+        this.generator = generator;
     }
     
     public void set(String graphName, String subject, String property, JsonValue value) {
@@ -48,52 +85,40 @@ public final class NodeMap {
         }
         
         index
-            .computeIfAbsent(graphName, x -> new LinkedHashMap<>())
-            .computeIfAbsent(subject, x -> new LinkedHashMap<>())
-            .put(property, value);
+            .computeIfAbsent(graphName, x -> new Graph())
+            .set(subject, property, value);
     }
 
     public JsonValue get(String graphName, String subject, String property) {
         
-        if (index.containsKey(graphName) && index.get(graphName).containsKey(subject)) {
-            return index.get(graphName).get(subject).get(property);
-        }
+        final Node node = node(graphName, subject);
         
-        return null;
+        return node != null ? node.get(property) : null;
     }
     
+    /**
+     * @return a read-only view of the node, or <code>null</code> if there is no such node
+     */
     public Map<String, JsonValue> get(String graphName, String subject) {
-        
-        if (index.containsKey(graphName)) {
-            return index.get(graphName).get(subject);
-        }
-        
-        return null;
+        return node(graphName, subject);
     }
 
     public boolean contains(String graphName, String subject) {
-        return index.containsKey(graphName) && index.get(graphName).containsKey(subject);
+        return node(graphName, subject) != null;
     }
 
     public boolean contains(String graphName, String subject, String property) {
-        return index.containsKey(graphName) 
-                    && index.get(graphName).containsKey(subject)
-                    && index.get(graphName).get(subject).containsKey(property);
+        
+        final Node node = node(graphName, subject);
+        
+        return node != null && node.containsKey(property);
     }
 
+    /**
+     * @return a read-only view of the graph, or <code>null</code> if there is no such graph
+     */
     public Map<String, JsonObject> get(String graphName) {
-        
-        if (!index.containsKey(graphName)) {
-            return null;
-        }
-
-        return index
-                    .get(graphName)
-                    .entrySet()
-                    .stream()
-                    .map(e -> new Object[] {e.getKey(), JsonUtils.toJsonObject(e.getValue())})
-                    .collect(Collectors.toMap(e -> (String)e[0], e -> (JsonObject)e[1]))                    
-                    ;
+        return index.get(graphName);
     }
 
     public String createIdentifier(String name) {
@@ -116,16 +141,30 @@ public final class NodeMap {
     }
     
     public Collection<String> subjects(String graphName, boolean sorted) {
+        
+        final Graph graph = index.get(graphName);
+        
+        if (graph == null) {
+            return Collections.emptySet();
+        }
+        
         return sorted 
-                ? index.getOrDefault(graphName, Collections.emptyMap()).keySet().stream().sorted().collect(Collectors.toList())
-                : index.getOrDefault(graphName, Collections.emptyMap()).keySet()
+                ? graph.nodes.keySet().stream().sorted().collect(Collectors.toList())
+                : Collections.unmodifiableSet(graph.nodes.keySet())
                 ;
     }
 
     public Collection<String> properties(String graphName, String subject, boolean sorted) {
+
+        final Node node = node(graphName, subject);
+        
+        if (node == null) {
+            return Collections.emptySet();
+        }
+        
         return sorted 
-                ? index.getOrDefault(graphName, Collections.emptyMap()).getOrDefault(subject, Collections.emptyMap()).keySet().stream().sorted().collect(Collectors.toList())
-                : index.getOrDefault(graphName, Collections.emptyMap()).getOrDefault(subject, Collections.emptyMap()).keySet()
+                ? node.keySet().stream().sorted().collect(Collectors.toList())
+                : node.keySet()
                 ;
     }
     
@@ -136,51 +175,53 @@ public final class NodeMap {
     public void merge() {
         
         // 1.
-        final NodeMap result = new NodeMap();
+        final Graph result = new Graph();
  
         // 2.
-        for (final Map.Entry<String, Map<String, Map<String, JsonValue>>> graphEntry : index.entrySet()) {
+        for (final Graph graph : index.values()) {
             
-            for (final Map.Entry<String, Map<String, JsonValue>> subject : graphEntry.getValue().entrySet()) {
+            for (final Node subject : graph.nodes.values()) {
              
                 // 2.1.
-                if (!result.contains(Keywords.MERGED, subject.getKey())) {
-                    result.set(Keywords.MERGED, subject.getKey(), Keywords.ID, Json.createValue(subject.getKey()));
+                if (!result.nodes.containsKey(subject.subject)) {
+                    result.set(subject.subject, Keywords.ID, JsonBackend.createValue(subject.subject));
                 }
+                
+                final Node node = result.nodes.get(subject.subject);
                                 
                 // 2.2.
-                for (final Map.Entry<String, JsonValue> property : subject.getValue().entrySet()) {
+                for (int i = 0; i < subject.size; i++) {
+                    
+                    final String property = names.get(subject.keys[i]);
                 
                     // 2.2.1.
-                    if (!Keywords.TYPE.equals(property.getKey())
-                            && Keywords.matchForm(property.getKey()) 
+                    if (!Keywords.TYPE.equals(property)
+                            && Keywords.matchForm(property) 
                             ) {
                         
-                        result.set(Keywords.MERGED, subject.getKey(), property.getKey(), property.getValue());
+                        node.set(subject.keys[i], subject.values[i]);
                         
                     } else {
                         
-                        final JsonArrayBuilder array;
+                        // appended in place, the merged arrays are not shared with the graphs
+                        JsonValue merged = node.get(subject.keys[i]);
                         
-                        if (result.contains(Keywords.MERGED, subject.getKey(), property.getKey())) {
-                            array = Json.createArrayBuilder(JsonUtils.toJsonArray(result.get(Keywords.MERGED, subject.getKey(), property.getKey())));
-                            
-                        } else {
-                            array = Json.createArrayBuilder();
+                        if (merged == null) {
+                            merged = JsonValue.EMPTY_JSON_ARRAY;
                         }
                         
-                        JsonUtils.toJsonArray(property.getValue()).forEach(array::add);
+                        for (final JsonValue item : JsonUtils.toJsonArray(subject.values[i])) {
+                            merged = JsonUtils.append(merged, item);
+                        }
                         
-                        result.set(Keywords.MERGED, subject.getKey(), property.getKey(), array.build());
+                        node.set(subject.keys[i], merged);
                     }
-                    
                 }
-                
             }
         }
         
-        if (result.index.get(Keywords.MERGED) != null) {
-            index.put(Keywords.MERGED, result.index.get(Keywords.MERGED));
+        if (!result.nodes.isEmpty()) {
+            index.put(Keywords.MERGED, result);
         }
     }
 
@@ -192,4 +233,272 @@ public final class NodeMap {
     public String toString() {
         return Objects.toString(index);
     }
-}
\ No newline at end of file
+    
+    private Node node(final String graphName, final String subject) {
+
+        final Graph graph = index.get(graphName);
+        
+        return graph != null ? graph.nodes.get(subject) : null;
+    }
+    
+    private int intern(final String name) {
+        
+        Integer id = ids.get(name);
+        
+        if (id == null) {
+            id = names.size();
+            ids.put(name, id);
+            names.add(name);
+        }
+        
+        return id;
+    }
+    
+    /**
+     * Subjects of a graph in insertion order, a read-only view mapping 
+     * subjects to node objects.
+     */
+    private final class Graph extends AbstractMap<String, JsonObject> {
+
+        private final Map<String, Node> nodes;
+        
+        private Set<Map.Entry<String, JsonObject>> entries;
+        
+        Graph() {
+            this.nodes = new LinkedHashMap<>();
+        }
+        
+        void set(final String subject, final String property, final JsonValue value) {
+            
+            Node node = nodes.get(subject);
+            
+            if (node == null) {
+                node = new Node(names.get(intern(subject)));
+                nodes.put(node.subject, node);
+            }
+            
+            node.set(intern(property), value);
+        }
+        
+        @Override
+        public JsonObject get(final Object subject) {
+            
+            final Node node = nodes.get(subject);
+            
+            return node != null ? node.toJsonObject() : null;
+        }
+        
+        @Override
+        public boolean containsKey(final Object subject) {
+            return nodes.containsKey(subject);
+        }
+        
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+        
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(nodes.keySet());
+        }
+        
+        @Override
+        public Set<Map.Entry<String, JsonObject>> entrySet() {
+            
+            if (entries == null) {
+                entries = new AbstractSet<Map.Entry<String, JsonObject>>() {
+                    
+                    @Override
+                    public Iterator<Map.Entry<String, JsonObject>> iterator() {
+                        
+                        final Iterator<Node> iterator = nodes.values().iterator();
+                        
+                        return new Iterator<Map.Entry<String, JsonObject>>() {
+
+                            @Override
+                            public boolean hasNext() {
+                                return iterator.hasNext();
+                            }
+
+                            @Override
+                            public Map.Entry<String, JsonObject> next() {
+                                final Node node = iterator.next();
+                                return new AbstractMap.SimpleImmutableEntry<>(node.subject, node.toJsonObject());
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return nodes.size();
+                    }
+                };
+            }
+            
+            return entries;
+        }
+    }
+    
+    /**
+     * Properties of a subject in insertion order, a read-only view.
+     */
+    private final class Node extends AbstractMap<String, JsonValue> {
+        
+        private final String subject;
+        
+        private int[] keys;
+        private JsonValue[] values;
+        private int size;
+        
+        // property id to position, created for nodes having many properties
+        private Map<Integer, Integer> positions;
+        
+        // the node object, computed on demand and reset when the node changes
+        private volatile JsonObject object;
+        
+        private Set<Map.Entry<String, JsonValue>> entries;
+        
+        Node(final String subject) {
+            this.subject = subject;
+            this.keys = new int[4];
+            this.values = new JsonValue[4];
+            this.size = 0;
+        }
+        
+        void set(final int key, final JsonValue value) {
+            
+            object = null;
+            
+            final int index = indexOf(key);
+            
+            if (index >= 0) {
+                values[index] = value;
+                return;
+            }
+            
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            
+            keys[size] = key;
+            values[size] = value;
+            size++;
+            
+            if (positions != null) {
+                positions.put(key, size - 1);
+                
+            } else if (size > LINEAR_SEARCH_LIMIT) {
+                
+                positions = new HashMap<>();
+                
+                for (int i = 0; i < size; i++) {
+                    positions.put(keys[i], i);
+                }
+            }
+        }
+        
+        JsonValue get(final int key) {
+            
+            final int index = indexOf(key);
+            
+            return index >= 0 ? values[index] : null;
+        }
+        
+        JsonObject toJsonObject() {
+            
+            JsonObject result = object;
+            
+            if (result == null) {
+                result = JsonUtils.toJsonObject(this);
+                object = result;
+            }
+            
+            return result;
+        }
+        
+        @Override
+        public JsonValue get(final Object property) {
+            
+            final int index = indexOf(property);
+            
+            return index >= 0 ? values[index] : null;
+        }
+        
+        @Override
+        public boolean containsKey(final Object property) {
+            return indexOf(property) >= 0;
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+        
+        @Override
+        public Set<Map.Entry<String, JsonValue>> entrySet() {
+            
+            if (entries == null) {
+                entries = new AbstractSet<Map.Entry<String, JsonValue>>() {
+                    
+                    @Override
+                    public Iterator<Map.Entry<String, JsonValue>> iterator() {
+                        
+                        return new Iterator<Map.Entry<String, JsonValue>>() {
+
+                            private int index = 0;
+                            
+                            @Override
+                            public boolean hasNext() {
+                                return index < size;
+                            }
+
+                            @Override
+                            public Map.Entry<String, JsonValue> next() {
+                                
+                                if (index >= size) {
+                                    throw new NoSuchElementException();
+                                }
+                                
+                                final Map.Entry<String, JsonValue> entry = new AbstractMap.SimpleImmutableEntry<>(names.get(keys[index]), values[index]);
+                                index++;
+                                return entry;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+            
+            return entries;
+        }
+        
+        private int indexOf(final Object property) {
+
+            final Integer key = ids.get(property);
+            
+            return key != null ? indexOf(key.intValue()) : -1;
+        }
+        
+        private int indexOf(final int key) {
+            
+            if (positions != null) {
+                final Integer index = positions.get(key);
+                return index != null ? index : -1;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            
+            return -1;
+        }
+    }
+}
@@ -19,11 +19,9 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -32,6 +30,7 @@ import javax.json.JsonStructure;
 import javax.json.JsonValue;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.BlankNode;
 import com.tangem.jsonld.lang.Keywords;
@@ -132,13 +131,13 @@ public final class NodeMapBuilder {
         // 3.
         if (elementObject.containsKey(Keywords.TYPE)) {
             
-            JsonArrayBuilder types = Json.createArrayBuilder();
+            JsonArrayBuilder types = JsonBackend.createArrayBuilder();
  
             // 3.1.
             for (JsonValue item : JsonUtils.toJsonArray(elementObject.get(Keywords.TYPE))) {
                 
                 if (JsonUtils.isString(item) && BlankNode.hasPrefix(((JsonString)item).getString())) {
-                    types.add(Json.createValue(nodeMap.createIdentifier(((JsonString)item).getString())));
+                    types.add(JsonBackend.createValue(nodeMap.createIdentifier(((JsonString)item).getString())));
                     
                 } else {
                     types.add(item);
@@ -159,18 +158,18 @@ public final class NodeMapBuilder {
 
                     JsonArray activePropertyValue = nodeMap.get(activeGraph, activeSubject, activeProperty).asJsonArray();
                     
-                    if (activePropertyValue.stream().noneMatch(e -> Objects.equals(e, element))) {
-                        nodeMap.set(activeGraph, activeSubject, activeProperty, Json.createArrayBuilder(activePropertyValue).add(element).build());
+                    if (!activePropertyValue.contains(element)) {
+                        nodeMap.set(activeGraph, activeSubject, activeProperty, JsonUtils.append(activePropertyValue, element));
                     }                    
                     
                 // 4.1.2.
                 } else {
-                    nodeMap.set(activeGraph, activeSubject, activeProperty, Json.createArrayBuilder().add(JsonUtils.toJsonObject(elementObject)).build());
+                    nodeMap.set(activeGraph, activeSubject, activeProperty, JsonBackend.createArrayBuilder().add(JsonUtils.toJsonObject(elementObject)).build());
                 }
 
             // 4.2.
             } else {
-                list.put(Keywords.LIST, Json.createArrayBuilder(list.get(Keywords.LIST).asJsonArray()).add(element).build());
+                list.put(Keywords.LIST, JsonUtils.append(list.get(Keywords.LIST), element));
             }
             
         // 5.
@@ -197,20 +196,18 @@ public final class NodeMapBuilder {
                 if (nodeMap.contains(activeGraph, activeSubject, activeProperty)) {
                     
                     nodeMap.set(activeGraph, activeSubject, activeProperty,
-                                Json.createArrayBuilder(
-                                        nodeMap.get(activeGraph, activeSubject, activeProperty)
-                                            .asJsonArray())
-                                            .add(JsonUtils.toJsonObject(result))
-                                            .build()
+                                JsonUtils.append(
+                                        nodeMap.get(activeGraph, activeSubject, activeProperty),
+                                        JsonUtils.toJsonObject(result))
                                 );
                     
                 } else {
-                    nodeMap.set(activeGraph, activeSubject, activeProperty, Json.createArrayBuilder().add(JsonUtils.toJsonObject(result)).build());
+                    nodeMap.set(activeGraph, activeSubject, activeProperty, JsonBackend.createArrayBuilder().add(JsonUtils.toJsonObject(result)).build());
                 }
 
             // 5.4.
             } else {
-                list.put(Keywords.LIST, Json.createArrayBuilder(list.get(Keywords.LIST).asJsonArray()).add(JsonUtils.toJsonObject(result)).build());
+                list.put(Keywords.LIST, JsonUtils.append(list.get(Keywords.LIST), JsonUtils.toJsonObject(result)));
             }
             
         // 6.
@@ -239,7 +236,7 @@ public final class NodeMapBuilder {
             
             // 6.3.
             if (id != null && !nodeMap.contains(activeGraph, id)) {
-                nodeMap.set(activeGraph, id, Keywords.ID, Json.createValue(id));
+                nodeMap.set(activeGraph, id, Keywords.ID, JsonBackend.createValue(id));
             }
 
             // 6.4.
@@ -252,20 +249,22 @@ public final class NodeMapBuilder {
 
                     final JsonArray activePropertyValue = nodeMap.get(activeGraph, id, activeProperty).asJsonArray();
 
-                    if (activePropertyValue.stream().noneMatch(e -> Objects.equals(e,  JsonUtils.toJsonObject(referencedNode)))) {
-                        nodeMap.set(activeGraph, id, activeProperty, Json.createArrayBuilder(activePropertyValue).add(JsonUtils.toJsonObject(referencedNode)).build());
+                    final JsonObject reference = JsonUtils.toJsonObject(referencedNode);
+
+                    if (!activePropertyValue.contains(reference)) {
+                        nodeMap.set(activeGraph, id, activeProperty, JsonUtils.append(activePropertyValue, reference));
                     }                        
                     
                 // 6.5.2.
                 } else {                    
-                    nodeMap.set(activeGraph, id, activeProperty, Json.createArrayBuilder().add(JsonUtils.toJsonObject(referencedNode)).build());
+                    nodeMap.set(activeGraph, id, activeProperty, JsonBackend.createArrayBuilder().add(JsonUtils.toJsonObject(referencedNode)).build());
                 }
                 
             // 6.6.
             } else if (activeProperty != null) {
                 
                 // 6.6.1.
-                JsonObject reference = Json.createObjectBuilder().add(Keywords.ID, Json.createValue(id)).build();
+                JsonObject reference = JsonBackend.createObjectBuilder().add(Keywords.ID, JsonBackend.createValue(id)).build();
                 
                 // 6.6.2.
                 if (list == null) {
@@ -275,18 +274,18 @@ public final class NodeMapBuilder {
 
                         final JsonArray activePropertyValue = nodeMap.get(activeGraph, activeSubject, activeProperty).asJsonArray();
 
-                        if (activePropertyValue.stream().noneMatch(e -> Objects.equals(e, reference))) {
-                            nodeMap.set(activeGraph, activeSubject, activeProperty, Json.createArrayBuilder(activePropertyValue).add(reference).build());
+                        if (!activePropertyValue.contains(reference)) {
+                            nodeMap.set(activeGraph, activeSubject, activeProperty, JsonUtils.append(activePropertyValue, reference));
                         }
 
                     // 6.6.2.1.                        
                     } else {
-                        nodeMap.set(activeGraph, activeSubject, activeProperty, Json.createArrayBuilder().add(reference).build());
+                        nodeMap.set(activeGraph, activeSubject, activeProperty, JsonBackend.createArrayBuilder().add(reference).build());
                     }
                     
                 // 6.6.3.                    
                 } else {                    
-                    list.put(Keywords.LIST, Json.createArrayBuilder(list.get(Keywords.LIST).asJsonArray()).add(reference).build());
+                    list.put(Keywords.LIST, JsonUtils.append(list.get(Keywords.LIST), reference));
                 }
             }
             
@@ -331,7 +330,7 @@ public final class NodeMapBuilder {
                 
                 // 6.9.1.
                 Map<String, JsonValue> referenced = new LinkedHashMap<>();
-                referenced.put(Keywords.ID, Json.createValue(id));
+                referenced.put(Keywords.ID, JsonBackend.createValue(id));
                 
                 // 6.9.2.
                 JsonValue reverseMap = elementObject.get(Keywords.REVERSE);
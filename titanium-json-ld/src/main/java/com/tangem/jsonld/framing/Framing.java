@@ -22,7 +22,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonString;
@@ -32,6 +31,7 @@ import javax.json.JsonValue;
 import com.tangem.jsonld.api.JsonLdEmbed;
 import com.tangem.jsonld.framing.Frame;
 import com.tangem.jsonld.framing.FramingState;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 import com.tangem.jsonld.lang.ListObject;
@@ -110,7 +110,7 @@ public final class Framing {
 
             // 4.1.
             Map<String, JsonValue> output = new LinkedHashMap<>();
-            output.put(Keywords.ID, Json.createValue(id));
+            output.put(Keywords.ID, JsonBackend.createValue(id));
             
             
             if (activeProperty == null) {
@@ -230,7 +230,7 @@ public final class Framing {
                     JsonValue subframe = frame.get(property);
 
                     if (subframe == null) {
-                        subframe = Json.createObjectBuilder()
+                        subframe = JsonBackend.createObjectBuilder()
                                         .add(Keywords.EMBED, "@".concat(embed.name().toLowerCase()))
                                         .add(Keywords.EXPLICIT, explicit)
                                         .add(Keywords.REQUIRE_ALL, requireAll)
@@ -250,14 +250,14 @@ public final class Framing {
                             }
 
                             if (listFrame == null) {
-                                listFrame = Json.createObjectBuilder()
+                                listFrame = JsonBackend.createObjectBuilder()
                                         .add(Keywords.EMBED, "@".concat(embed.name().toLowerCase()))
                                         .add(Keywords.EXPLICIT, explicit)
                                         .add(Keywords.REQUIRE_ALL, requireAll)
                                         .build();
                             }
 
-                            final JsonArrayBuilder list = Json.createArrayBuilder();
+                            final JsonArrayBuilder list = JsonBackend.createArrayBuilder();
                             
                             for (final JsonValue listItem : JsonUtils.toJsonArray(item.asJsonObject().get(Keywords.LIST))) {
 
@@ -288,7 +288,7 @@ public final class Framing {
                                     list.add(listItem);
                                 }
                             }                           
-                            output.put(property, Json.createArrayBuilder().add(Json.createObjectBuilder().add(Keywords.LIST, list)).build());
+                            output.put(property, JsonBackend.createArrayBuilder().add(JsonBackend.createObjectBuilder().add(Keywords.LIST, list)).build());
 
                         
                     } else if (NodeObject.isNodeReference(item)) {
@@ -347,13 +347,13 @@ public final class Framing {
                 JsonValue defaultValue = propertyFrame.get(Keywords.DEFAULT);
 
                 if (JsonUtils.isNull(defaultValue)) {
-                    defaultValue = Json.createValue(Keywords.NULL);
+                    defaultValue = JsonBackend.createValue(Keywords.NULL);
                 }
 
-                output.put(property, Json.createArrayBuilder()
-                                        .add(Json.createObjectBuilder()
+                output.put(property, JsonBackend.createArrayBuilder()
+                                        .add(JsonBackend.createObjectBuilder()
                                                     .add(Keywords.PRESERVE, 
-                                                            Json.createArrayBuilder().add(
+                                                            JsonBackend.createArrayBuilder().add(
                                                             defaultValue))).build());
                 
             }
@@ -44,6 +44,8 @@ public final class MediaType {
 
     public static final MediaType N_QUADS = new MediaType(TYPE_APPLICATION, "n-quads");
 
+    public static final MediaType BINARY_RDF = new MediaType(TYPE_APPLICATION, "x-binary-rdf");
+
     public static final MediaType ANY = new MediaType(WILDCARD, WILDCARD);
     
     private final String type;
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.json;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonString;
+import javax.json.JsonWriter;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+
+/**
+ * Creates JSON values, builders, parsers and writers used by the processors.
+ * <p>
+ * All calls are delegated to a single {@link JsonProvider}. By default it is
+ * the provider found by {@link JsonProvider#provider()}, looked up once. Any
+ * other JSON-P implementation, e.g. one backed by a different parser or tree,
+ * can be installed by {@link #setProvider(JsonProvider)}.
+ */
+public final class JsonBackend {
+
+    private static volatile JsonProvider provider = null;
+
+    private JsonBackend() {
+    }
+
+    public static final JsonProvider provider() {
+        final JsonProvider instance = provider;
+        return instance != null ? instance : DefaultProvider.INSTANCE;
+    }
+
+    /**
+     * Set the provider used to create JSON structures. Values created by
+     * a previous provider remain usable.
+     *
+     * @param instance a provider to use or <code>null</code> to restore the default one
+     */
+    public static final void setProvider(final JsonProvider instance) {
+        provider = instance;
+    }
+
+    public static final JsonParser createParser(final Reader reader) {
+        return provider().createParser(reader);
+    }
+
+    public static final JsonParser createParser(final InputStream is) {
+        return provider().createParser(is);
+    }
+
+    public static final JsonWriter createWriter(final Writer writer) {
+        return provider().createWriter(writer);
+    }
+
+    public static final JsonObjectBuilder createObjectBuilder() {
+        return provider().createObjectBuilder();
+    }
+
+    public static final JsonObjectBuilder createObjectBuilder(final JsonObject object) {
+        return provider().createObjectBuilder(object);
+    }
+
+    public static final JsonObjectBuilder createObjectBuilder(final Map<String, Object> map) {
+        return provider().createObjectBuilder(map);
+    }
+
+    public static final JsonArrayBuilder createArrayBuilder() {
+        return provider().createArrayBuilder();
+    }
+
+    public static final JsonArrayBuilder createArrayBuilder(final JsonArray array) {
+        return provider().createArrayBuilder(array);
+    }
+
+    public static final JsonArrayBuilder createArrayBuilder(final Collection<?> collection) {
+        return provider().createArrayBuilder(collection);
+    }
+
+    public static final JsonString createValue(final String value) {
+        return provider().createValue(value);
+    }
+
+    public static final JsonNumber createValue(final int value) {
+        return provider().createValue(value);
+    }
+
+    public static final JsonNumber createValue(final long value) {
+        return provider().createValue(value);
+    }
+
+    public static final JsonNumber createValue(final double value) {
+        return provider().createValue(value);
+    }
+
+    public static final JsonNumber createValue(final BigDecimal value) {
+        return provider().createValue(value);
+    }
+
+    public static final JsonNumber createValue(final BigInteger value) {
+        return provider().createValue(value);
+    }
+
+    private static final class DefaultProvider {
+        
+        static final JsonProvider INSTANCE = JsonProvider.provider();
+        
+        private DefaultProvider() {
+        }
+    }
+}
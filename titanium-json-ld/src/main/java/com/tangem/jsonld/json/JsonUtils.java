@@ -21,7 +21,6 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -52,7 +51,7 @@ public final class JsonUtils {
         }
 
         if (JsonUtils.isArray(value)) {
-            return value.asJsonArray().contains(Json.createValue(text));
+            return value.asJsonArray().contains(JsonBackend.createValue(text));
         }
         if (JsonUtils.isObject(value)) {
             return value.asJsonObject().containsKey(text);
@@ -131,7 +130,7 @@ public final class JsonUtils {
     }
 
     public static JsonObject toJsonObject(Map<String, JsonValue> map) {
-        final JsonObjectBuilder builder = Json.createObjectBuilder();
+        final JsonObjectBuilder builder = JsonBackend.createObjectBuilder();
 
         map.entrySet().forEach(e -> builder.add(e.getKey(), e.getValue()));
 
@@ -140,7 +139,7 @@ public final class JsonUtils {
 
     public static JsonArray toJsonArray(Collection<JsonValue> collection) {
         
-        final JsonArrayBuilder builder = Json.createArrayBuilder();
+        final JsonArrayBuilder builder = JsonBackend.createArrayBuilder();
 
         collection.forEach(builder::add);
 
@@ -158,7 +157,7 @@ public final class JsonUtils {
     public static JsonArray toJsonArray(JsonValue value) {
        return JsonUtils.isArray(value) 
                     ? value.asJsonArray() 
-                    : Json.createArrayBuilder().add(value).build()
+                    : JsonBackend.createArrayBuilder().add(value).build()
                     ;
     }
 
@@ -168,7 +167,7 @@ public final class JsonUtils {
 
     public static JsonValue toJsonValue(String value) {
         return value != null && !JavaOver8Utils.isBlank(value)
-                    ? Json.createValue(value)
+                    ? JsonBackend.createValue(value)
                     : JsonValue.NULL
                     ;
     }    
@@ -181,14 +180,14 @@ public final class JsonUtils {
         if (asArray) {
 
             if (!object.containsKey(key)) {
-                object.put(key, Json.createArrayBuilder().build());
+                object.put(key, JsonBackend.createArrayBuilder().build());
 
             } else {
 
                 JsonValue original = object.get(key);
 
                 if (JsonUtils.isNotArray(original)) {
-                    object.put(key, Json.createArrayBuilder().add(original).build());
+                    object.put(key, JsonBackend.createArrayBuilder().add(original).build());
                 }
             }
         }
@@ -215,16 +214,36 @@ public final class JsonUtils {
 
                 // 3.2.1
                 if (JsonUtils.isNotArray(original)) {
-                    object.put(key, Json.createArrayBuilder().add(original).add(value).build());
+                    object.put(key, JsonBackend.createArrayBuilder().add(original).add(value).build());
 
                 // 3.2.2
                 } else {
-                    object.put(key, Json.createArrayBuilder(original.asJsonArray()).add(value).build());
+                    object.put(key, JsonBackend.createArrayBuilder(original.asJsonArray()).add(value).build());
                 }
             }
         }
     }
 
+    /**
+     * Appends the value to the array. An array returned by a previous call is
+     * extended in place, any other array is copied first. The result must not
+     * be appended to once it has been published outside of the algorithm step
+     * building it.
+     * 
+     * @param array to append to
+     * @param value to append
+     * @return an array containing all values of the given array followed by the value 
+     */
+    public static JsonArray append(JsonValue array, JsonValue value) {
+
+        final MutableJsonArray result = array instanceof MutableJsonArray
+                                            ? (MutableJsonArray) array
+                                            : new MutableJsonArray(array.asJsonArray());
+        result.push(value);
+
+        return result;
+    }
+
     public static boolean isNotEmptyArray(JsonValue value) {
         return isNotArray(value) || !value.asJsonArray().isEmpty();
     }
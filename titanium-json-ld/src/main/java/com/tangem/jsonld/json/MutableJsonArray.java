@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.json;
+
+import java.io.StringWriter;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonWriter;
+
+/**
+ * An array accumulating values in place while an algorithm step is appending to it,
+ * instead of copying an immutable {@link JsonArray} on every append. It is exposed as
+ * a regular read-only {@link JsonArray}.
+ * <p>
+ * Only {@link JsonUtils#append(JsonValue, JsonValue)} appends, and it is not thread-safe.
+ * Reads do not modify any state, so an array that is no longer appended to, e.g.
+ * a part of a returned result, can be read by many threads.
+ * </p>
+ * 
+ * @see JsonUtils#append(JsonValue, JsonValue)
+ */
+final class MutableJsonArray extends AbstractList<JsonValue> implements JsonArray {
+
+    // minimal size to look up values through a hash set
+    private static final int INDEX_THRESHOLD = 16;
+
+    private final List<JsonValue> values;
+
+    // built by push() once the threshold is reached, never by a read
+    private Set<JsonValue> index;
+
+    MutableJsonArray(final Collection<? extends JsonValue> values) {
+        this.values = new ArrayList<>(Math.max(values.size() + 1, 10));
+        this.values.addAll(values);
+        this.index = this.values.size() >= INDEX_THRESHOLD ? new HashSet<>(this.values) : null;
+    }
+
+    void push(final JsonValue value) {
+
+        values.add(value);
+
+        if (index != null) {
+            index.add(value);
+
+        } else if (values.size() >= INDEX_THRESHOLD) {
+            index = new HashSet<>(values);
+        }
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+        return index != null ? index.contains(value) : values.contains(value);
+    }
+
+    @Override
+    public JsonValue get(final int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public JsonObject getJsonObject(final int index) {
+        return (JsonObject) values.get(index);
+    }
+
+    @Override
+    public JsonArray getJsonArray(final int index) {
+        return (JsonArray) values.get(index);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(final int index) {
+        return (JsonNumber) values.get(index);
+    }
+
+    @Override
+    public JsonString getJsonString(final int index) {
+        return (JsonString) values.get(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends JsonValue> List<T> getValuesAs(final Class<T> clazz) {
+        return (List<T>) this;
+    }
+
+    @Override
+    public String getString(final int index) {
+        return getJsonString(index).getString();
+    }
+
+    @Override
+    public String getString(final int index, final String defaultValue) {
+
+        final JsonValue value = index >= 0 && index < values.size() ? values.get(index) : null;
+
+        return value instanceof JsonString ? ((JsonString) value).getString() : defaultValue;
+    }
+
+    @Override
+    public int getInt(final int index) {
+        return getJsonNumber(index).intValue();
+    }
+
+    @Override
+    public int getInt(final int index, final int defaultValue) {
+
+        final JsonValue value = index >= 0 && index < values.size() ? values.get(index) : null;
+
+        return value instanceof JsonNumber ? ((JsonNumber) value).intValue() : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(final int index) {
+
+        final JsonValue value = get(index);
+
+        if (value == JsonValue.TRUE) {
+            return true;
+        }
+
+        if (value == JsonValue.FALSE) {
+            return false;
+        }
+
+        throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(final int index, final boolean defaultValue) {
+
+        final JsonValue value = index >= 0 && index < values.size() ? values.get(index) : null;
+
+        if (value == JsonValue.TRUE) {
+            return true;
+        }
+
+        if (value == JsonValue.FALSE) {
+            return false;
+        }
+
+        return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(final int index) {
+        return values.get(index).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.ARRAY;
+    }
+
+    @Override
+    public String toString() {
+
+        final StringWriter string = new StringWriter();
+
+        try (JsonWriter writer = JsonBackend.createWriter(string)) {
+            writer.write(this);
+        }
+
+        return string.toString();
+    }
+}
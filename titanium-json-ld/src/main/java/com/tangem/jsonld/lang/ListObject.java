@@ -15,10 +15,10 @@
  */
 package com.tangem.jsonld.lang;
 
-import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 
@@ -58,10 +58,10 @@ public final class ListObject {
      */
     public static final JsonObject toListObject(JsonValue value) {
         if (JsonUtils.isArray(value)) {
-            return Json.createObjectBuilder().add(com.tangem.jsonld.lang.Keywords.LIST, value).build();
+            return JsonBackend.createObjectBuilder().add(com.tangem.jsonld.lang.Keywords.LIST, value).build();
         }
 
-        return Json.createObjectBuilder().add(Keywords.LIST, Json.createArrayBuilder().add(value)).build();
+        return JsonBackend.createObjectBuilder().add(Keywords.LIST, JsonBackend.createArrayBuilder().add(value)).build();
 
     }
 }
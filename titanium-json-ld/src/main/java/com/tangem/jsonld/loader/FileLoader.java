@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.http.media.MediaType;
@@ -36,6 +37,28 @@ import static com.tangem.JavaOver8Utils.isBlank;
 
 public final class FileLoader implements DocumentLoader {
 
+    private static final String GZIP_SUFFIX = ".gz";
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final long DEFAULT_MAPPED_THRESHOLD = 16L * 1024 * 1024;
+    
+    private final long mappedThreshold;
+    
+    public FileLoader() {
+        this(DEFAULT_MAPPED_THRESHOLD);
+    }
+
+    /**
+     * Create a new loader.
+     * 
+     * @param mappedThreshold the minimal size in bytes of an uncompressed file to be read 
+     *          through memory mapping, <code>-1</code> to disable memory mapping
+     */
+    public FileLoader(final long mappedThreshold) {
+        this.mappedThreshold = mappedThreshold;
+    }
+
     @Override
     public Document loadDocument(final URI url, final DocumentLoaderOptions options) throws com.tangem.jsonld.api.JsonLdError {
         
@@ -49,11 +72,16 @@ public final class FileLoader implements DocumentLoader {
             throw new com.tangem.jsonld.api.JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "File [" + url + "] is not accessible to read.");
         }
         
+        final String path = url.getPath().toLowerCase();
+        
+        // gzip compressed files are decompressed while being parsed
+        final boolean compressed = path.endsWith(GZIP_SUFFIX);
+        
         final MediaType contentType =
-                                detectedContentType(url.getPath().toLowerCase())
+                                detectedContentType(compressed ? path.substring(0, path.length() - GZIP_SUFFIX.length()) : path)
                                 .orElseThrow(() -> new com.tangem.jsonld.api.JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, "Unknown media type of the file [" + url + "]."));
                         
-        try (final InputStream is = new FileInputStream(file)) {
+        try (final InputStream is = open(file, compressed)) {
             
             return DocumentParser.parse(contentType, is);
             
@@ -66,6 +94,27 @@ public final class FileLoader implements DocumentLoader {
         }
     }
 
+    private final InputStream open(final File file, final boolean compressed) throws IOException {
+
+        if (!compressed && mappedThreshold >= 0 && file.length() >= mappedThreshold) {
+            return new MappedFileInputStream(file);
+        }
+        
+        final InputStream is = new FileInputStream(file);
+        
+        if (!compressed) {
+            return is;
+        }
+        
+        try {
+            return new GZIPInputStream(is, BUFFER_SIZE);
+            
+        } catch (IOException e) {
+            is.close();
+            throw e;
+        }
+    }
+
     private static final Optional<MediaType> detectedContentType(String name) {
         
         if (name == null || JavaOver8Utils.isBlank(name)) {
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads a file through memory mapped windows. A window is mapped when the
+ * previous one has been read.
+ */
+final class MappedFileInputStream extends InputStream {
+
+    private static final long WINDOW_SIZE = 256L * 1024 * 1024;
+    
+    private final RandomAccessFile file;
+    
+    private final FileChannel channel;
+    
+    private final long size;
+    
+    // file position of the next window
+    private long position;
+    
+    private MappedByteBuffer window;
+    
+    MappedFileInputStream(final File file) throws IOException {
+        this.file = new RandomAccessFile(file, "r");
+        this.channel = this.file.getChannel();
+        this.size = channel.size();
+        this.position = 0;
+        this.window = null;
+    }
+    
+    @Override
+    public int read() throws IOException {
+        
+        if (!nextWindow()) {
+            return -1;
+        }
+        
+        return window.get() & 0xff;
+    }
+    
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!nextWindow()) {
+            return -1;
+        }
+        
+        final int count = Math.min(length, window.remaining());
+        
+        window.get(bytes, offset, count);
+        
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        
+        if (n <= 0 || !nextWindow()) {
+            return 0;
+        }
+        
+        final int count = (int) Math.min(n, window.remaining());
+        
+        window.position(window.position() + count);
+        
+        return count;
+    }
+    
+    @Override
+    public int available() throws IOException {
+        return window != null ? window.remaining() : 0;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        window = null;
+        file.close();
+    }
+    
+    /**
+     * Ensures the current window has remaining bytes, maps the next window if necessary.
+     * 
+     * @return <code>false</code> if the end of file has been reached
+     */
+    private boolean nextWindow() throws IOException {
+        
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        
+        if (position >= size) {
+            return false;
+        }
+        
+        final long windowSize = Math.min(WINDOW_SIZE, size - position);
+        
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+        position += windowSize;
+
+        return true;
+    }
+}
@@ -17,7 +17,6 @@ package com.tangem.jsonld.processor;
 
 import java.net.URI;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
@@ -25,6 +24,7 @@ import javax.json.JsonValue;
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.document.Document;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 import com.tangem.jsonld.loader.DocumentLoaderOptions;
@@ -78,11 +78,7 @@ public final class CompactionProcessor {
     public static final JsonObject compact(final Document input, final Document context, final com.tangem.jsonld.api.JsonLdOptions options) throws JsonLdError {
 
         // 4.
-        final com.tangem.jsonld.api.JsonLdOptions expansionOptions = new JsonLdOptions(options);
-        expansionOptions.setOrdered(false);
-        expansionOptions.setExtractAllScripts(false);
-        
-        JsonArray expandedInput = ExpansionProcessor.expand(input, expansionOptions, false);
+        final JsonArray expandedInput = expand(input, options);
 
         // 5.
         URI contextBase = input.getDocumentUrl();
@@ -92,15 +88,7 @@ public final class CompactionProcessor {
         }
         
         // 6.
-        JsonValue contextValue = context.getJsonContent().orElse(JsonValue.EMPTY_JSON_OBJECT);
-        
-        if (JsonUtils.isArray(contextValue) && contextValue.asJsonArray().size() == 1) {
-            contextValue = contextValue.asJsonArray().get(0);
-        }
-        
-        if (JsonUtils.isObject(contextValue) && contextValue.asJsonObject().containsKey(Keywords.CONTEXT)) {
-            contextValue = contextValue.asJsonObject().get(Keywords.CONTEXT);
-        }
+        final JsonValue contextValue = getContextValue(context);
         
         // 7.
         ActiveContext activeContext = new ActiveContext(options);
@@ -119,6 +107,68 @@ public final class CompactionProcessor {
 
         }
         
+        return compact(expandedInput, activeContext, contextValue, options);
+    }
+
+    /**
+     * Process the context once so it can be used to compact many documents.
+     * Relative references in the context are resolved against {@link JsonLdOptions#getBase()}.
+     * 
+     * @param context JSON-LD document providing the context
+     * @param options used to process the context and to compact documents, copied
+     * @return {@link PreparedCompaction} bound to the processed context
+     * @throws JsonLdError if the context cannot be processed
+     */
+    public static final PreparedCompaction prepare(final Document context, final com.tangem.jsonld.api.JsonLdOptions options) throws JsonLdError {
+
+        final JsonLdOptions preparedOptions = new JsonLdOptions(options);
+        
+        // 6.
+        final JsonValue contextValue = getContextValue(context);
+        
+        // 7.
+        ActiveContext activeContext = new ActiveContext(preparedOptions);
+        
+        activeContext = activeContext.newContext().create(contextValue, preparedOptions.getBase());
+
+        // 8., the document URL is considered per document 
+        if (activeContext.getBaseUri() == null && preparedOptions.getBase() != null) {
+            activeContext.setBaseUri(preparedOptions.getBase());
+        }
+        
+        activeContext.createInverseContext();
+        
+        return new PreparedCompaction(activeContext, contextValue, preparedOptions);
+    }
+    
+    static final JsonArray expand(final Document input, final com.tangem.jsonld.api.JsonLdOptions options) throws JsonLdError {
+        
+        // 4.
+        final com.tangem.jsonld.api.JsonLdOptions expansionOptions = new JsonLdOptions(options);
+        expansionOptions.setOrdered(false);
+        expansionOptions.setExtractAllScripts(false);
+        
+        return ExpansionProcessor.expand(input, expansionOptions, false);
+    }
+    
+    private static final JsonValue getContextValue(final Document context) {
+        
+        // 6.
+        JsonValue contextValue = context.getJsonContent().orElse(JsonValue.EMPTY_JSON_OBJECT);
+        
+        if (JsonUtils.isArray(contextValue) && contextValue.asJsonArray().size() == 1) {
+            contextValue = contextValue.asJsonArray().get(0);
+        }
+        
+        if (JsonUtils.isObject(contextValue) && contextValue.asJsonObject().containsKey(Keywords.CONTEXT)) {
+            contextValue = contextValue.asJsonObject().get(Keywords.CONTEXT);
+        }
+        
+        return contextValue;
+    }
+    
+    static final JsonObject compact(final JsonArray expandedInput, final ActiveContext activeContext, final JsonValue contextValue, final com.tangem.jsonld.api.JsonLdOptions options) throws JsonLdError {
+        
         // 9.
         JsonValue compactedOutput = Compaction
                                         .with(activeContext)
@@ -132,7 +182,7 @@ public final class CompactionProcessor {
             
         // 9.2.
         } else if (JsonUtils.isArray(compactedOutput)) {
-            compactedOutput = Json.createObjectBuilder()
+            compactedOutput = JsonBackend.createObjectBuilder()
                                     .add(
                                         activeContext.uriCompaction().vocab(true).compact(Keywords.GRAPH),
                                         compactedOutput
@@ -146,7 +196,7 @@ public final class CompactionProcessor {
         
         // 9.3.
         if (JsonUtils.isNotNull(contextValue) && JsonUtils.isNotEmptyArray(contextValue) && JsonUtils.isNotEmptyObject(contextValue)) {
-            compactedOutput = Json.createObjectBuilder(compactedOutput.asJsonObject())
+            compactedOutput = JsonBackend.createObjectBuilder(compactedOutput.asJsonObject())
                                     .add(Keywords.CONTEXT, contextValue)
                                     .build();            
         }
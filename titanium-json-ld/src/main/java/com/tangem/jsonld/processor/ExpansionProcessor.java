@@ -17,17 +17,20 @@ package com.tangem.jsonld.processor;
 
 import java.net.URI;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonStructure;
 import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.context.ActiveContext;
 import com.tangem.jsonld.document.Document;
 import com.tangem.jsonld.expansion.Expansion;
+import com.tangem.jsonld.expansion.StreamingExpansion;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.Keywords;
 import com.tangem.jsonld.loader.DocumentLoaderOptions;
@@ -93,6 +96,82 @@ public final class ExpansionProcessor {
             baseUri = options.getBase();
         }
         
+        ActiveContext activeContext = initContext(baseUri, baseUrl, options);
+
+        // 7.
+        if (input.getContextUrl() != null) {
+            activeContext = activeContext
+                                .newContext()
+                                .create(JsonBackend.createValue(input.getContextUrl().toString()), input.getContextUrl());
+        }
+
+        // 8.
+        JsonValue expanded = Expansion
+                                .with(activeContext, jsonStructure, null, baseUrl)
+                                .frameExpansion(frameExpansion)
+                                .ordered(options.isOrdered())
+                                .compute();
+
+        // 8.1
+        if (JsonUtils.isObject(expanded)) {
+
+            final JsonObject object = expanded.asJsonObject();
+
+            if (object.size() == 1 && object.containsKey(Keywords.GRAPH)) {
+                expanded = object.get(Keywords.GRAPH);
+            }
+        }
+
+        // 8.2
+        if (JsonUtils.isNull(expanded)) {
+            return JsonValue.EMPTY_JSON_ARRAY;
+        }
+
+        // 8.3
+        return JsonUtils.toJsonArray(expanded);
+    }
+
+    /**
+     * Expands a document read from the given {@link JsonParser} and passes expanded node objects
+     * to the consumer one by one, as soon as they are available. Only a top-level array or
+     * a top-level <code>@graph</code> array preceded by its <code>@context</code> is streamed,
+     * any other document is expanded as a whole.
+     * <p>
+     * A streamed <code>@graph</code> must be the last top-level entry. An entry following it,
+     * e.g. <code>@id</code> of a named graph, fails with
+     * {@link JsonLdErrorCode#LOADING_DOCUMENT_FAILED} although the
+     * document is valid JSON-LD, nodes received before the failure are not retracted.
+     * </p>
+     * 
+     * @param parser positioned before the document's top level element
+     * @param options processing options, {@link JsonLdOptions#getBase()} is used as the base IRI
+     * @param consumer receiving expanded node objects in the document order
+     * @throws JsonLdError
+     */
+    public static final void expand(final JsonParser parser, final JsonLdOptions options, final Consumer<JsonObject> consumer) throws JsonLdError {
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("Parameter 'consumer' is null.");
+        }
+
+        streamingExpansion(parser, options).expand(consumer);
+    }
+
+    static final StreamingExpansion streamingExpansion(final JsonParser parser, final JsonLdOptions options) throws JsonLdError {
+
+        if (parser == null) {
+            throw new IllegalArgumentException("Parameter 'parser' is null.");
+        }
+
+        final URI baseUrl = options.getBase();
+
+        return StreamingExpansion
+                    .with(initContext(baseUrl, baseUrl, options), parser, baseUrl)
+                    .ordered(options.isOrdered());
+    }
+
+    private static final ActiveContext initContext(final URI baseUri, final URI baseUrl, final JsonLdOptions options) throws JsonLdError {
+
         ActiveContext activeContext = new ActiveContext(baseUri, baseUrl, options);
 
         // 6. If the expandContext option in options is set, update the active context
@@ -125,36 +204,6 @@ public final class ExpansionProcessor {
             }
         }
 
-        // 7.
-        if (input.getContextUrl() != null) {
-            activeContext = activeContext
-                                .newContext()
-                                .create(Json.createValue(input.getContextUrl().toString()), input.getContextUrl());
-        }
-
-        // 8.
-        JsonValue expanded = Expansion
-                                .with(activeContext, jsonStructure, null, baseUrl)
-                                .frameExpansion(frameExpansion)
-                                .ordered(options.isOrdered())
-                                .compute();
-
-        // 8.1
-        if (JsonUtils.isObject(expanded)) {
-
-            final JsonObject object = expanded.asJsonObject();
-
-            if (object.size() == 1 && object.containsKey(Keywords.GRAPH)) {
-                expanded = object.get(Keywords.GRAPH);
-            }
-        }
-
-        // 8.2
-        if (JsonUtils.isNull(expanded)) {
-            return JsonValue.EMPTY_JSON_ARRAY;
-        }
-
-        // 8.3
-        return JsonUtils.toJsonArray(expanded);
+        return activeContext;
     }
 }
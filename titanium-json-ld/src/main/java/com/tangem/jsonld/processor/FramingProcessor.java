@@ -25,7 +25,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -40,6 +39,7 @@ import com.tangem.jsonld.document.Document;
 import com.tangem.jsonld.framing.Frame;
 import com.tangem.jsonld.framing.Framing;
 import com.tangem.jsonld.framing.FramingState;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.BlankNode;
 import com.tangem.jsonld.lang.Keywords;
@@ -173,7 +173,7 @@ public final class FramingProcessor {
         
             final String key = activeContext.uriCompaction().vocab(true).compact(Keywords.GRAPH);
             
-            compactedResults = Json.createObjectBuilder()
+            compactedResults = JsonBackend.createObjectBuilder()
                                     .add(key, compactedResults).build();
         
         }
@@ -196,21 +196,21 @@ public final class FramingProcessor {
                 
             if (compactedResults.asJsonObject().isEmpty()) {
             
-                compactedResults = Json.createObjectBuilder().add(Keywords.GRAPH, 
+                compactedResults = JsonBackend.createObjectBuilder().add(Keywords.GRAPH, 
                         JsonValue.EMPTY_JSON_ARRAY
                         ).build();
 
             } else {
             
-                compactedResults = Json.createObjectBuilder().add(Keywords.GRAPH, 
-                                        Json.createArrayBuilder().add(compactedResults)
+                compactedResults = JsonBackend.createObjectBuilder().add(Keywords.GRAPH, 
+                                        JsonBackend.createArrayBuilder().add(compactedResults)
                                         ).build();
             }
         }
 
         // 19.3.
         if (JsonUtils.isNotEmptyArray(context) && JsonUtils.isNotEmptyObject(context)) {
-            compactedResults = Json.createObjectBuilder(compactedResults.asJsonObject()).add(Keywords.CONTEXT, context).build();
+            compactedResults = JsonBackend.createObjectBuilder(compactedResults.asJsonObject()).add(Keywords.CONTEXT, context).build();
         }
                 
         return compactedResults.asJsonObject();
@@ -246,7 +246,7 @@ public final class FramingProcessor {
         
         if (JsonUtils.isArray(value)) {
             
-            final JsonArrayBuilder array = Json.createArrayBuilder();
+            final JsonArrayBuilder array = JsonBackend.createArrayBuilder();
             
             for (final JsonValue item : value.asJsonArray()) {
                 array.add(removePreserve(item));
@@ -255,7 +255,7 @@ public final class FramingProcessor {
             return array.build();
         }
         
-        final JsonObjectBuilder object = Json.createObjectBuilder();
+        final JsonObjectBuilder object = JsonBackend.createObjectBuilder();
         
         for (final Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
             
@@ -279,7 +279,7 @@ public final class FramingProcessor {
             
         } else if (JsonUtils.isArray(value)) {
             
-            JsonArrayBuilder array = Json.createArrayBuilder();
+            JsonArrayBuilder array = JsonBackend.createArrayBuilder();
             
             value.asJsonArray().stream().map(FramingProcessor::replaceNull).forEach(array::add);
             
@@ -288,7 +288,7 @@ public final class FramingProcessor {
             return result.size() != 1 || JsonUtils.isNotNull(result.get(0)) ? result : JsonValue.EMPTY_JSON_ARRAY;
         }
         
-        JsonObjectBuilder object = Json.createObjectBuilder();
+        JsonObjectBuilder object = JsonBackend.createObjectBuilder();
         
         for (Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
             
@@ -320,7 +320,7 @@ public final class FramingProcessor {
         }
         if (JsonUtils.isArray(value)) {
             
-            JsonArrayBuilder array = Json.createArrayBuilder();
+            JsonArrayBuilder array = JsonBackend.createArrayBuilder();
             
             for (JsonValue item : value.asJsonArray()) {
                 array.add(removeBlankIdKey(item, blankNodes));
@@ -329,7 +329,7 @@ public final class FramingProcessor {
             return array.build();
         }
         
-        JsonObjectBuilder object = Json.createObjectBuilder();
+        JsonObjectBuilder object = JsonBackend.createObjectBuilder();
         
         for (Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
             
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.processor;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import com.tangem.jsonld.api.JsonLdError;
+import com.tangem.jsonld.api.JsonLdOptions;
+import com.tangem.jsonld.compaction.UriCompactionCache;
+import com.tangem.jsonld.context.ActiveContext;
+import com.tangem.jsonld.document.Document;
+
+/**
+ * A context processed once, together with its inverse context, to compact
+ * many documents without processing the context again.
+ * <p>
+ * An instance is not modified by compaction and can be shared by threads as
+ * long as the configured {@link com.tangem.jsonld.loader.DocumentLoader} is
+ * thread-safe.
+ * 
+ * @see CompactionProcessor#prepare(Document, JsonLdOptions)
+ */
+public final class PreparedCompaction {
+
+    // maximal number of remembered contexts relative to a document URL
+    private static final int MAX_DOCUMENT_CONTEXTS = 256;
+    
+    private final ActiveContext activeContext;
+    
+    private final Map<URI, ActiveContext> documentContexts;
+    
+    private final JsonValue contextValue;
+    
+    private final JsonLdOptions options;
+    
+    PreparedCompaction(final ActiveContext activeContext, final JsonValue contextValue, final JsonLdOptions options) {
+        this.activeContext = activeContext;
+        this.contextValue = contextValue;
+        this.options = options;
+        this.documentContexts = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Compact the document using the prepared context.
+     * 
+     * @param input a document to compact
+     * @return {@link JsonObject} representing compacted document
+     * @throws JsonLdError
+     */
+    public JsonObject compact(final Document input) throws JsonLdError {
+        
+        if (input == null) {
+            throw new IllegalArgumentException("The input document parameter cannot be null.");
+        }
+        
+        // 4.
+        final JsonArray expandedInput = CompactionProcessor.expand(input, options);
+
+        ActiveContext context = activeContext;
+        
+        // 8.
+        if (context.getBaseUri() == null && options.isCompactToRelative() && input.getDocumentUrl() != null) {
+            context = documentContext(input.getDocumentUrl());
+        }
+
+        return CompactionProcessor.compact(expandedInput, context, contextValue, options);
+    }
+    
+    // a context relative to the document URL, sharing the IRI compaction cache with the prepared context
+    private ActiveContext documentContext(final URI documentUrl) {
+        
+        ActiveContext context = documentContexts.get(documentUrl);
+        
+        if (context != null) {
+            return context;
+        }
+        
+        context = new ActiveContext(activeContext, documentUrl);
+        
+        if (documentContexts.size() < MAX_DOCUMENT_CONTEXTS) {
+            
+            final ActiveContext previous = documentContexts.putIfAbsent(documentUrl, context);
+            
+            if (previous != null) {
+                return previous;
+            }
+        }
+        
+        return context;
+    }
+
+    /**
+     * @return memoized IRI compactions of the prepared context, shared by all compacted documents,
+     *          also reporting the cache hit rate
+     */
+    public UriCompactionCache getUriCompactionCache() {
+        return activeContext.getUriCompactionCache();
+    }
+}
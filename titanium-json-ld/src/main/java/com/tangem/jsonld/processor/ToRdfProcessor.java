@@ -16,20 +16,26 @@
 package com.tangem.jsonld.processor;
 
 import java.net.URI;
+import java.util.function.Consumer;
 
 import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.document.Document;
+import com.tangem.jsonld.expansion.StreamingExpansion;
 import com.tangem.jsonld.loader.DocumentLoaderOptions;
 import com.tangem.jsonld.processor.ExpansionProcessor;
 import com.tangem.jsonld.api.JsonLdError;
 import com.tangem.jsonld.api.JsonLdOptions;
 import com.tangem.jsonld.deseralization.JsonLdToRdf;
+import com.tangem.jsonld.flattening.BlankNodeIdGenerator;
 import com.tangem.jsonld.flattening.NodeMap;
 import com.tangem.jsonld.flattening.NodeMapBuilder;
 import com.tangem.rdf.Rdf;
 import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfNQuad;
 
 /**
  * 
@@ -76,6 +82,52 @@ public final class ToRdfProcessor {
                             )
                         .produceGeneralizedRdf(options.isProduceGeneralizedRdf())
                         .rdfDirection(options.getRdfDirection())
+                        .ordered(options.isOrdered())
+                        .parallel(options.isParallelRdfConversion())
                         .build();     
     }
+
+    /**
+     * Converts a document read from the given {@link JsonParser} to RDF node by node.
+     * Each top-level node, i.e. a member of a top-level array or <code>@graph</code>,
+     * is expanded, node mapped and converted on its own and the produced N-Quads
+     * are passed to the consumer before the next node is read, so memory is bounded
+     * by the largest node rather than by the whole document.
+     * <p>
+     * Blank node identifiers are shared across the nodes, the result is isomorphic
+     * to {@link #toRdf(Document, JsonLdOptions)} although generated labels may differ.
+     * Nodes are expected to be self-contained, a subject described by several
+     * top-level nodes is not merged and duplicate statements are not removed.
+     * </p>
+     * 
+     * @param parser positioned before the document's top level element
+     * @param options processing options, {@link JsonLdOptions#getBase()} is used as the base IRI
+     * @param consumer receiving N-Quads in the document order
+     * @throws JsonLdError
+     * 
+     * @see ExpansionProcessor#expand(JsonParser, JsonLdOptions, Consumer)
+     */
+    public static final void toRdf(final JsonParser parser, final JsonLdOptions options, final Consumer<RdfNQuad> consumer) throws JsonLdError {
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("Parameter 'consumer' is null.");
+        }
+
+        final StreamingExpansion expansion = ExpansionProcessor.streamingExpansion(parser, options);
+
+        final BlankNodeIdGenerator generator = new BlankNodeIdGenerator();
+
+        JsonObject node;
+
+        while ((node = expansion.next()) != null) {
+
+            JsonLdToRdf
+                    .with(NodeMapBuilder.with(node, new NodeMap(generator)).build())
+                    .produceGeneralizedRdf(options.isProduceGeneralizedRdf())
+                    .rdfDirection(options.getRdfDirection())
+                    .ordered(options.isOrdered())
+                    .parallel(options.isParallelRdfConversion())
+                    .build(consumer);
+        }
+    }
 }
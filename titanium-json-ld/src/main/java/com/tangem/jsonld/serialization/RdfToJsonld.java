@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
@@ -33,6 +32,7 @@ import javax.json.JsonValue;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.api.JsonLdOptions.RdfDirection;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.json.JsonUtils;
 import com.tangem.jsonld.lang.BlankNode;
 import com.tangem.jsonld.lang.Keywords;
@@ -154,7 +154,7 @@ public final class RdfToJsonld {
                     
                     final Map<String, JsonValue> clNode = clNodeValue.get();
                     
-                    JsonArrayBuilder clArray = Json.createArrayBuilder();
+                    JsonArrayBuilder clArray = JsonBackend.createArrayBuilder();
                     
                     // 6.1.6.                    
                     for (JsonValue clReference : graphMap.get(clEntry.graphName, clEntry.subject, clEntry.property).orElse(JsonValue.EMPTY_JSON_ARRAY).asJsonArray()) {
@@ -164,7 +164,7 @@ public final class RdfToJsonld {
                                 && cl.equals(clReference.asJsonObject().getString(Keywords.ID))
                                 ) {
 
-                            JsonObjectBuilder clObject = Json.createObjectBuilder(clReference.asJsonObject());
+                            JsonObjectBuilder clObject = JsonBackend.createObjectBuilder(clReference.asJsonObject());
                             
                             // 6.1.6.1.
                             clObject = clObject.remove(Keywords.ID);
@@ -261,7 +261,7 @@ public final class RdfToJsonld {
                         && (node.size() == 3
                                 || (node.size() == 4 && node.containsKey(Keywords.TYPE)
                                     && node.get(Keywords.TYPE).asJsonArray().size() == 1
-                                    && node.get(Keywords.TYPE).asJsonArray().contains(Json.createValue(com.tangem.rdf.lang.RdfConstants.LIST))
+                                    && node.get(Keywords.TYPE).asJsonArray().contains(JsonBackend.createValue(com.tangem.rdf.lang.RdfConstants.LIST))
                                     ))
                         ) {
 
@@ -312,7 +312,7 @@ public final class RdfToJsonld {
         }
         
         // 7.
-        final JsonArrayBuilder result = Json.createArrayBuilder();
+        final JsonArrayBuilder result = JsonBackend.createArrayBuilder();
         
         // 8.
         final List<String> subjects = new ArrayList<>(graphMap.keys(Keywords.DEFAULT));
@@ -334,7 +334,7 @@ public final class RdfToJsonld {
                     Collections.sort(keys);
                 }
                 
-                final JsonArrayBuilder array = Json.createArrayBuilder();
+                final JsonArrayBuilder array = JsonBackend.createArrayBuilder();
                 
                 for (final String key : keys) {
                     
@@ -366,7 +366,7 @@ public final class RdfToJsonld {
 
         // 5.4.
         if (!Keywords.DEFAULT.equals(graphName) && !graphMap.contains(Keywords.DEFAULT, graphName)) {
-            graphMap.set(Keywords.DEFAULT, graphName, Keywords.ID, Json.createValue(graphName));
+            graphMap.set(Keywords.DEFAULT, graphName, Keywords.ID, JsonBackend.createValue(graphName));
         }
         
         // 5.6.
@@ -380,7 +380,7 @@ public final class RdfToJsonld {
 
             // 5.7.1.
             if (!graphMap.contains(graphName, subject)) {
-                graphMap.set(graphName, subject, Keywords.ID, Json.createValue(subject));
+                graphMap.set(graphName, subject, Keywords.ID, JsonBackend.createValue(subject));
             }
                         
             // 5.7.3.
@@ -394,7 +394,7 @@ public final class RdfToJsonld {
             if ((triple.getObject().isBlankNode() || triple.getObject().isIRI())
                     && !graphMap.contains(graphName, triple.getObject().toString())) {
                                 
-                graphMap.set(graphName, triple.getObject().toString(), Keywords.ID, Json.createValue(triple.getObject().toString()));
+                graphMap.set(graphName, triple.getObject().toString(), Keywords.ID, JsonBackend.createValue(triple.getObject().toString()));
             }
             
             // 5.7.5.
@@ -406,11 +406,11 @@ public final class RdfToJsonld {
                     
                     JsonArray types = type.get().asJsonArray();
                     
-                    graphMap.set(graphName, subject, Keywords.TYPE, Json.createArrayBuilder(types).add(triple.getObject().toString()).build());
+                    graphMap.set(graphName, subject, Keywords.TYPE, JsonUtils.append(types, JsonBackend.createValue(triple.getObject().toString())));
                     
                 } else {
                     
-                    graphMap.set(graphName, subject, Keywords.TYPE, Json.createArrayBuilder().add(triple.getObject().toString()).build());
+                    graphMap.set(graphName, subject, Keywords.TYPE, JsonBackend.createArrayBuilder().add(triple.getObject().toString()).build());
                 }
                 
                 continue;
@@ -431,12 +431,12 @@ public final class RdfToJsonld {
                 JsonArray array = predicateValue.get().asJsonArray();
                 
                 if (!array.contains(value)) {
-                    graphMap.set(graphName, subject, predicate, Json.createArrayBuilder(array).add(value).build());
+                    graphMap.set(graphName, subject, predicate, JsonUtils.append(array, value));
                 }
                 
             // 5.7.8.
             } else {
-                graphMap.set(graphName, subject, predicate, Json.createArrayBuilder().add(value).build());
+                graphMap.set(graphName, subject, predicate, JsonBackend.createArrayBuilder().add(value).build());
             }
             
             // 5.7.9.
@@ -17,7 +17,6 @@ package com.tangem.jsonld.serialization;
 
 import java.io.StringReader;
 
-import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
@@ -25,6 +24,7 @@ import javax.json.stream.JsonParser;
 
 import com.tangem.jsonld.api.JsonLdErrorCode;
 import com.tangem.jsonld.api.JsonLdOptions.RdfDirection;
+import com.tangem.jsonld.json.JsonBackend;
 import com.tangem.jsonld.lang.Keywords;
 import com.tangem.jsonld.lang.Version;
 import com.tangem.jsonld.serialization.RefJsonObject;
@@ -66,16 +66,16 @@ final class RdfToObject {
 
         // 1.
         if (value.isIRI() || value.isBlankNode()) {
-            return new com.tangem.jsonld.serialization.RefJsonObject(Json.createObjectBuilder().add(Keywords.ID, value.getValue()).build());
+            return new com.tangem.jsonld.serialization.RefJsonObject(JsonBackend.createObjectBuilder().add(Keywords.ID, value.getValue()).build());
         }
 
-        final JsonObjectBuilder result = Json.createObjectBuilder();
+        final JsonObjectBuilder result = JsonBackend.createObjectBuilder();
 
         // 2.
         final RdfLiteral literal = value.asLiteral();
         
         // 2.2.
-        JsonValue convertedValue = Json.createValue(literal.getValue());
+        JsonValue convertedValue = JsonBackend.createValue(literal.getValue());
         
         // 2.3.
         String type = null;
@@ -87,7 +87,7 @@ final class RdfToObject {
             
                 // 2.4.1.
                 if (com.tangem.rdf.lang.XsdConstants.STRING.equals(literal.getDatatype())) {
-                    convertedValue = Json.createValue(literal.getValue());
+                    convertedValue = JsonBackend.createValue(literal.getValue());
     
                 // 2.4.2.
                 } else if (com.tangem.rdf.lang.XsdConstants.BOOLEAN.equals(literal.getDatatype())) {
@@ -108,11 +108,11 @@ final class RdfToObject {
                 // 2.4.3.                
                 } else if (com.tangem.rdf.lang.XsdConstants.INTEGER.equals(literal.getDatatype())) {
                     
-                    convertedValue = Json.createValue(Long.parseLong(literal.getValue()));
+                    convertedValue = JsonBackend.createValue(Long.parseLong(literal.getValue()));
                     
                 } else if (com.tangem.rdf.lang.XsdConstants.DOUBLE.equals(literal.getDatatype())) {
                     
-                    convertedValue = Json.createValue(Double.parseDouble(literal.getValue()));
+                    convertedValue = JsonBackend.createValue(Double.parseDouble(literal.getValue()));
                     
                 } else if (literal.getDatatype() != null) {
                     
@@ -125,7 +125,7 @@ final class RdfToObject {
                         && literal.getDatatype() != null 
                         && com.tangem.rdf.lang.RdfConstants.JSON.equals(literal.getDatatype())) {
 
-            try (JsonParser parser = Json.createParser(new StringReader(literal.getValue()))) {
+            try (JsonParser parser = JsonBackend.createParser(new StringReader(literal.getValue()))) {
                 
                 parser.next();
                 
@@ -142,7 +142,7 @@ final class RdfToObject {
                     && literal.getDatatype().startsWith(com.tangem.rdf.lang.RdfConstants.I18N_BASE)
                 ) {
 
-            convertedValue = Json.createValue(literal.getValue());
+            convertedValue = JsonBackend.createValue(literal.getValue());
 
             String langId = literal.getDatatype().substring(RdfConstants.I18N_BASE.length());
             
@@ -150,22 +150,22 @@ final class RdfToObject {
 
             if (directionIndex > 1) {
                 
-                result.add(Keywords.LANGUAGE, Json.createValue(langId.substring(0, directionIndex)));
-                result.add(Keywords.DIRECTION, Json.createValue(langId.substring(directionIndex + 1)));
+                result.add(Keywords.LANGUAGE, JsonBackend.createValue(langId.substring(0, directionIndex)));
+                result.add(Keywords.DIRECTION, JsonBackend.createValue(langId.substring(directionIndex + 1)));
                 
             } else if (directionIndex == 0) {
                 
-                result.add(Keywords.DIRECTION, Json.createValue(langId.substring(1)));
+                result.add(Keywords.DIRECTION, JsonBackend.createValue(langId.substring(1)));
                 
             } else  if (directionIndex == -1) {
                 
-                result.add(Keywords.LANGUAGE, Json.createValue(langId));
+                result.add(Keywords.LANGUAGE, JsonBackend.createValue(langId));
             }
             
         // 2.7. 
         } else if (literal.getLanguage().isPresent()) {
             
-            result.add(Keywords.LANGUAGE, Json.createValue(literal.getLanguage().get()));
+            result.add(Keywords.LANGUAGE, JsonBackend.createValue(literal.getLanguage().get()));
 
         // 2.8.   
         } else if (literal.getDatatype() != null 
@@ -179,7 +179,7 @@ final class RdfToObject {
    
         // 2.10.
         if (type != null) {
-            result.add(Keywords.TYPE, Json.createValue(type));
+            result.add(Keywords.TYPE, JsonBackend.createValue(type));
         }
 
         // 2.11.
@@ -18,13 +18,14 @@ package com.tangem.jsonld.serialization;
 import java.util.AbstractMap;
 import java.util.Set;
 
-import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonNumber;
 import javax.json.JsonObject;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 
+import com.tangem.jsonld.json.JsonBackend;
+
 final class RefJsonObject extends AbstractMap<String, JsonValue> implements JsonObject {
     
     private JsonObject jsonObject;
@@ -137,7 +138,7 @@ final class RefJsonObject extends AbstractMap<String, JsonValue> implements Json
     public JsonValue put(String key, JsonValue value) {
         JsonValue previous = jsonObject.get(key);
         
-        jsonObject = Json.createObjectBuilder(jsonObject).add(key, value).build();
+        jsonObject = JsonBackend.createObjectBuilder(jsonObject).add(key, value).build();
                 
         return previous;
     }
@@ -147,7 +148,7 @@ final class RefJsonObject extends AbstractMap<String, JsonValue> implements Json
 
         JsonValue previous = jsonObject.get(key);
         
-        jsonObject = Json.createObjectBuilder(jsonObject).remove(key.toString()).build();
+        jsonObject = JsonBackend.createObjectBuilder(jsonObject).remove(key.toString()).build();
                 
         return previous;
     }
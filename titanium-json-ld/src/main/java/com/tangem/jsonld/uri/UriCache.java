@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.jsonld.uri;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe memo of IRI processing results held by an active context.
+ * Results are kept in tables selected by a key describing everything else a result
+ * depends on. Once the memo holds <code>maxSize</code> results, new results are
+ * not remembered.
+ *
+ * @param <K> the table key type
+ */
+public abstract class UriCache<K> {
+
+    private final int maxSize;
+
+    private final Map<K, Map<String, String>> tables;
+
+    private final AtomicInteger size;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    protected UriCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.tables = new ConcurrentHashMap<>();
+        this.size = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    protected final String lookup(final K key, final String value) {
+
+        final Map<String, String> table = tables.get(key);
+
+        final String result = table != null ? table.get(value) : null;
+
+        if (result != null) {
+            hits.increment();
+
+        } else {
+            misses.increment();
+        }
+
+        return result;
+    }
+
+    protected final void remember(final K key, final String value, final String result) {
+
+        if (size.get() >= maxSize) {
+            return;
+        }
+
+        if (tables.computeIfAbsent(key, x -> new ConcurrentHashMap<>()).putIfAbsent(value, result) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    /**
+     * Discards all remembered results, called when the active context is modified.
+     */
+    public final void clear() {
+        tables.clear();
+        size.set(0);
+    }
+
+    public final long getHits() {
+        return hits.sum();
+    }
+
+    public final long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return ratio of lookups answered from the cache, <code>0</code> if there were no lookups
+     */
+    public final double getHitRate() {
+
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+
+        return total > 0 ? (double) hitCount / total : 0;
+    }
+
+    public final int size() {
+        return size.get();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "]";
+    }
+}
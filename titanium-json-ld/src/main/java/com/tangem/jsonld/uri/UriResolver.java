@@ -18,8 +18,7 @@ package com.tangem.jsonld.uri;
 import com.tangem.JavaOver8Utils;
 
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import static com.tangem.JavaOver8Utils.isBlank;
 
@@ -31,6 +30,13 @@ import static com.tangem.JavaOver8Utils.isBlank;
  */
 public final class UriResolver {
 
+    private static final int SCHEME = 0;
+    private static final int SCHEME_SPECIFIC_PART = 1;
+    private static final int AUTHORITY = 2;
+    private static final int PATH = 3;
+    private static final int QUERY = 4;
+    private static final int FRAGMENT = 5;
+
     private UriResolver() {
     }
 
@@ -40,12 +46,12 @@ public final class UriResolver {
             return relative;
         }
 
-        URI components = UriUtils.create(relative);
+        final String[] components = parse(relative);
 
         String basePath = base.getPath();        
         String baseAuthority = base.getAuthority();
 
-        String componentPath = components.getPath();
+        String componentPath = components[PATH];
         
         // hacks
         if (baseAuthority == null && base.getSchemeSpecificPart().startsWith("///")) {
@@ -55,8 +61,8 @@ public final class UriResolver {
             basePath = base.getSchemeSpecificPart();
         } 
 
-        if (componentPath == null && components.getSchemeSpecificPart() != null) {
-            componentPath = components.getSchemeSpecificPart();
+        if (componentPath == null && components[SCHEME_SPECIFIC_PART] != null) {
+            componentPath = components[SCHEME_SPECIFIC_PART];
         }
 
         String scheme = null;
@@ -64,18 +70,18 @@ public final class UriResolver {
         String path = null;
         String query = null;
 
-        if (components.getScheme() != null && !JavaOver8Utils.isBlank(components.getScheme())) {
-            scheme = components.getScheme();
-            authority =  components.getAuthority();
+        if (components[SCHEME] != null && !JavaOver8Utils.isBlank(components[SCHEME])) {
+            scheme = components[SCHEME];
+            authority =  components[AUTHORITY];
             path = removeDotSegments(componentPath);
-            query = components.getQuery();
+            query = components[QUERY];
 
         } else {
             
-            if (components.getAuthority() != null && !JavaOver8Utils.isBlank(components.getAuthority())) {
-                authority = components.getAuthority();
+            if (components[AUTHORITY] != null && !JavaOver8Utils.isBlank(components[AUTHORITY])) {
+                authority = components[AUTHORITY];
                 path = removeDotSegments(componentPath);
-                query = components.getQuery();
+                query = components[QUERY];
 
             } else {
 
@@ -90,13 +96,13 @@ public final class UriResolver {
                         path = "/".concat(removeDotSegments(componentPath));
                         
                     }
-                    query = components.getQuery();
+                    query = components[QUERY];
 
                 } else {
                     path = basePath;
 
-                    if (UriUtils.isDefined(components.getQuery())) {
-                        query = components.getQuery();
+                    if (UriUtils.isDefined(components[QUERY])) {
+                        query = components[QUERY];
 
                     } else {
                         query = base.getQuery();
@@ -108,7 +114,116 @@ public final class UriResolver {
             scheme = base.getScheme();            
         }
 
-        return UriUtils.recompose(scheme, authority, path, query, components.getFragment());
+        return UriUtils.recompose(scheme, authority, path, query, components[FRAGMENT]);
+    }
+
+    /**
+     * Splits a reference into its components, as returned by {@link URI} getters.
+     * A relative reference consisting of plain characters only is split directly,
+     * anything else, e.g. a value with a scheme or escaped octets, is parsed by {@link URI}.
+     */
+    private static final String[] parse(final String reference) {
+
+        final String[] components = new String[6];
+
+        if (split(reference, components)) {
+            return components;
+        }
+
+        final URI uri = UriUtils.create(reference);
+
+        components[SCHEME] = uri.getScheme();
+        components[SCHEME_SPECIFIC_PART] = uri.getSchemeSpecificPart();
+        components[AUTHORITY] = uri.getAuthority();
+        components[PATH] = uri.getPath();
+        components[QUERY] = uri.getQuery();
+        components[FRAGMENT] = uri.getFragment();
+
+        return components;
+    }
+
+    private static final boolean split(final String reference, final String[] components) {
+
+        final int length = reference.length();
+
+        // UriUtils.create() would alter the value
+        if (length > 0 && reference.charAt(length - 1) == ':') {
+            return false;
+        }
+
+        int query = -1;
+        int fragment = -1;
+        int pathEnd = -1;
+
+        for (int i = 0; i < length; i++) {
+
+            final char ch = reference.charAt(i);
+
+            if (ch == '#') {
+
+                if (fragment != -1) {
+                    return false;
+                }
+                fragment = i;
+
+                if (pathEnd == -1) {
+                    pathEnd = i;
+                }
+
+            } else if (ch == '?') {
+
+                if (query == -1 && fragment == -1) {
+                    query = i;
+                    pathEnd = i;
+                }
+
+            } else if (ch == ':') {
+
+                // a scheme or an invalid first segment
+                if (pathEnd == -1 && reference.lastIndexOf('/', i) == -1) {
+                    return false;
+                }
+
+            } else if (!UriUtils.isUriChar(ch)) {
+                return false;
+            }
+        }
+
+        if (pathEnd == -1) {
+            pathEnd = length;
+        }
+
+        int pathStart = 0;
+
+        if (reference.startsWith("//")) {
+
+            pathStart = 2;
+
+            while (pathStart < pathEnd && reference.charAt(pathStart) != '/') {
+                pathStart++;
+            }
+
+            // empty authority
+            if (pathStart == 2) {
+                return false;
+            }
+
+            components[AUTHORITY] = reference.substring(2, pathStart);
+        }
+
+        components[PATH] = reference.substring(pathStart, pathEnd);
+
+        if (query != -1) {
+            components[QUERY] = reference.substring(query + 1, fragment != -1 ? fragment : length);
+        }
+
+        if (fragment != -1) {
+            components[FRAGMENT] = reference.substring(fragment + 1);
+        }
+
+        components[SCHEME_SPECIFIC_PART] = reference.substring(0, fragment != -1 ? fragment : length);
+
+        return true;
     }
 
     /**
@@ -125,58 +240,80 @@ public final class UriResolver {
             return "";
         }
 
-        String input = path;
-        List<String> output = new ArrayList<>();
+        // trailing blank characters are never copied to output as input starts with them
+        int limit = path.length();
+
+        while (limit > 0 && isBlank(path.charAt(limit - 1))) {
+            limit--;
+        }
+
+        final StringBuilder output = new StringBuilder(path.length());
 
-        while (!JavaOver8Utils.isBlank(input)) {
+        // start indices of segments in output
+        int[] segments = new int[8];
+        int count = 0;
+
+        int index = 0;
+
+        while (index < limit) {
 
             // A.
-            if (input.startsWith("../")) {
-                input = input.substring(3);
+            if (path.startsWith("../", index)) {
+                index += 3;
 
-            } else if (input.startsWith("./")) {
-                input = input.substring(2);
+            } else if (path.startsWith("./", index)) {
+                index += 2;
 
             // B.
-            } else if (input.startsWith("/./")) {
-                input = "/".concat(input.substring(3));
+            } else if (path.startsWith("/./", index)) {
+                index += 2;
 
-            } else if ("/.".equals(input)) {
-                input = "/";
+            } else if (index + 2 == path.length() && path.startsWith("/.", index)) {
+                output.append('/');
+                break;
 
             // C.
-            } else if (input.startsWith("/../")) {
-                input = "/".concat(input.substring(4));
-                if (!output.isEmpty()) {
-                    output.remove(output.size() - 1);
+            } else if (path.startsWith("/../", index)) {
+                index += 3;
+                if (count > 0) {
+                    output.setLength(segments[--count]);
                 }
 
-            } else if ("/..".equals(input)) {
-                input = "/";
-                if (!output.isEmpty()) {
-                    output.remove(output.size() - 1);
+            } else if (index + 3 == path.length() && path.startsWith("/..", index)) {
+                if (count > 0) {
+                    output.setLength(segments[--count]);
                 }
+                output.append('/');
+                break;
 
             // D.
-            } else if ("..".equals(input) || ".".equals(input)) {
-                input = "";
+            } else if ((index + 2 == path.length() && path.startsWith("..", index)) 
+                        || (index + 1 == path.length() && path.charAt(index) == '.')) {
+                break;
 
             // E.
             } else {
-                int nextSlashIndex = input.indexOf('/', 1);
+                int nextSlashIndex = path.indexOf('/', index + 1);
 
-                if (nextSlashIndex != -1) {
-                    output.add(input.substring(0, nextSlashIndex));
-                    input = input.substring(nextSlashIndex);
+                if (nextSlashIndex == -1) {
+                    nextSlashIndex = path.length();
+                }
 
-                } else {
-                    output.add(input);
-                    input = "";
+                if (count == segments.length) {
+                    segments = Arrays.copyOf(segments, count * 2);
                 }
+                segments[count++] = output.length();
+
+                output.append(path, index, nextSlashIndex);
+                index = nextSlashIndex;
             }
         }
 
-        return String.join("", output);
+        return output.toString();
+    }
+
+    private static final boolean isBlank(final char ch) {
+        return Character.isWhitespace(ch) || Character.isSpaceChar(ch);
     }
 
     /**
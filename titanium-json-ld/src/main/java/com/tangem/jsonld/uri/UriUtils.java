@@ -25,6 +25,22 @@ import static com.tangem.JavaOver8Utils.strip;
 
 public final class UriUtils {
 
+    // unreserved, sub-delims, ':', '@', '/', '?'
+    private static final boolean[] URI_CHARS = new boolean[128];
+
+    static {
+        for (char ch = 'a'; ch <= 'z'; ch++) {
+            URI_CHARS[ch] = true;
+            URI_CHARS[Character.toUpperCase(ch)] = true;
+        }
+        for (char ch = '0'; ch <= '9'; ch++) {
+            URI_CHARS[ch] = true;
+        }
+        for (final char ch : "-._~!$&'()*+,;=:@/?".toCharArray()) {
+            URI_CHARS[ch] = true;
+        }
+    }
+
     private UriUtils() {
     }
 
@@ -83,23 +99,120 @@ public final class UriUtils {
     }
 
     public static final boolean isNotAbsoluteUri(final String uri) {
+        return !isAbsoluteUri(uri);
+    }
 
-        try {
-            return !URI.create(uri).isAbsolute();
-        } catch (IllegalArgumentException e) {
-            return true;
+    /**
+     * Check if the provided value is an absolute URI, i.e. {@link URI#create(String)} accepts it and the result has a scheme.
+     * Common values are checked directly, {@link URI} is used only for values with non-ASCII characters,
+     * brackets or an empty authority.
+     * 
+     * @param uri to check
+     * @return <code>true</code> if the provided value is an absolute URI
+     */
+    public static final boolean isAbsoluteUri(final String uri) {
+
+        final int colon = schemeLength(uri);
+
+        // no scheme, a relative reference or not an URI at all
+        if (colon == -1) {
+            return false;
+        }
+
+        final int length = uri.length();
+
+        // empty scheme specific part
+        if (colon + 1 == length || uri.charAt(colon + 1) == '#') {
+            return false;
+        }
+
+        // empty authority
+        if (uri.startsWith("//", colon + 1) && (colon + 3 == length || "/?#".indexOf(uri.charAt(colon + 3)) != -1)) {
+            return isAbsoluteUriStrict(uri);
         }
+
+        boolean fragment = false;
+
+        for (int i = colon + 1; i < length; i++) {
+
+            final char ch = uri.charAt(i);
+
+            if (ch < URI_CHARS.length && URI_CHARS[ch]) {
+                continue;
+            }
+
+            if (ch == '%') {
+
+                if (i + 2 >= length || Character.digit(uri.charAt(i + 1), 16) == -1 || Character.digit(uri.charAt(i + 2), 16) == -1) {
+                    return false;
+                }
+                i += 2;
+
+            } else if (ch == '#') {
+
+                if (fragment) {
+                    return false;
+                }
+                fragment = true;
+
+            } else if (ch >= 0x80 || ch == '[' || ch == ']') {
+                return isAbsoluteUriStrict(uri);
+
+            } else {
+                return false;
+            }
+        }
+
+        return true;
     }
 
-    public static final boolean isAbsoluteUri(final String uri) {
-        
+    private static final boolean isAbsoluteUriStrict(final String uri) {
+
         try {
             return URI.create(uri).isAbsolute();
         } catch (IllegalArgumentException e) {
             return false;
         }
     }
-    
+
+    /**
+     * @return index of the colon terminating the scheme or <code>-1</code> if the value does not start with a scheme
+     */
+    protected static final int schemeLength(final String uri) {
+
+        final int length = uri.length();
+
+        if (length == 0 || !isAsciiAlpha(uri.charAt(0))) {
+            return -1;
+        }
+
+        for (int i = 1; i < length; i++) {
+
+            final char ch = uri.charAt(i);
+
+            if (ch == ':') {
+                return i;
+            }
+
+            if (!isAsciiAlpha(ch) && !(ch >= '0' && ch <= '9') && ch != '+' && ch != '-' && ch != '.') {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return <code>true</code> if the character is allowed unescaped anywhere after a scheme
+     */
+    protected static final boolean isUriChar(final char ch) {
+        return ch < URI_CHARS.length && URI_CHARS[ch];
+    }
+
+    private static final boolean isAsciiAlpha(final char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
     protected static final String recompose(final String scheme, final String authority, final String path, final String query, final String fragment) {
 
         final StringBuilder builder = new StringBuilder();
@@ -16,9 +16,7 @@
 package com.tangem.rdf;
 
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.Collection;
@@ -66,7 +64,7 @@ public final class Rdf {
             throw new IllegalArgumentException();
         }
 
-        return createReader(contentType, new InputStreamReader(is));
+        return com.tangem.rdf.spi.RdfProvider.provider().createReader(contentType, is);
     }
 
     public static final Collection<MediaType> canWrite() {
@@ -88,7 +86,7 @@ public final class Rdf {
             throw new IllegalArgumentException();
         }
 
-        return createWriter(contentType, new OutputStreamWriter(os));
+        return com.tangem.rdf.spi.RdfProvider.provider().createWriter(contentType, os);
     }
 
     public static final RdfDataset createDataset() {
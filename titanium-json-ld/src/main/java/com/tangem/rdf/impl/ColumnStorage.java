@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.impl;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides growable off-heap {@link ByteBuffer} columns, either allocated
+ * directly or memory mapped to files in a directory.
+ */
+abstract class ColumnStorage implements Closeable {
+
+    /**
+     * Returns a new zeroed buffer. An existing column of the same name is discarded.
+     * 
+     * @param name of the column
+     * @param capacity in bytes
+     * @return a new buffer 
+     */
+    abstract ByteBuffer allocate(String name, int capacity);
+    
+    /**
+     * Returns a buffer of the given capacity with the content of the current one.
+     * 
+     * @param name of the column
+     * @param current buffer to enlarge
+     * @param capacity in bytes, must be greater than the current capacity
+     * @return an enlarged buffer
+     */
+    abstract ByteBuffer grow(String name, ByteBuffer current, int capacity);
+
+    static final ColumnStorage direct() {
+        return new DirectStorage();
+    }
+
+    static final ColumnStorage mapped(final File directory) {
+        
+        if (directory == null) {
+            throw new IllegalArgumentException("The storage directory cannot be null.");
+        }
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalArgumentException("The storage directory [" + directory + "] cannot be created.");
+        }
+        
+        return new MappedStorage(directory);
+    }
+    
+    static final int nextCapacity(final int current, final int required) {
+        
+        long capacity = Math.max(current, 64);
+        
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+        
+        if (capacity > Integer.MAX_VALUE - 8) {
+            if (required > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Column capacity limit has been reached [" + required + "].");
+            }
+            return Integer.MAX_VALUE - 8;
+        }
+        
+        return (int) capacity;
+    }
+    
+    private static final class DirectStorage extends ColumnStorage {
+
+        @Override
+        ByteBuffer allocate(final String name, final int capacity) {
+            return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        }
+
+        @Override
+        ByteBuffer grow(final String name, final ByteBuffer current, final int capacity) {
+            
+            final ByteBuffer source = current.duplicate();
+            source.clear();
+
+            final ByteBuffer enlarged = allocate(name, capacity);
+            enlarged.put(source);
+            enlarged.clear();
+            
+            return enlarged;
+        }
+        
+        @Override
+        public void close() {
+            // direct buffers are released by the garbage collector
+        }
+    }
+    
+    private static final class MappedStorage extends ColumnStorage {
+        
+        private final File directory;
+        
+        private final Map<String, RandomAccessFile> files;
+        
+        private final Map<String, File> paths;
+        
+        MappedStorage(final File directory) {
+            this.directory = directory;
+            this.files = new HashMap<>();
+            this.paths = new HashMap<>();
+        }
+
+        @Override
+        ByteBuffer allocate(final String name, final int capacity) {
+            try {
+                final FileChannel channel = file(name).getChannel();
+                channel.truncate(0);
+                
+                return map(channel, capacity);
+                
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        ByteBuffer grow(final String name, final ByteBuffer current, final int capacity) {
+            try {
+                // the file keeps the content, mapping a larger region is enough
+                return map(file(name).getChannel(), capacity);
+                
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        private RandomAccessFile file(final String name) throws IOException {
+            
+            RandomAccessFile file = files.get(name);
+            
+            if (file == null) {
+                // a unique file, the directory can be shared by many datasets
+                final File path = File.createTempFile(name + "-", ".col", directory);
+                paths.put(name, path);
+                
+                file = new RandomAccessFile(path, "rw");
+                files.put(name, file);
+            }
+            return file;
+        }
+        
+        private static ByteBuffer map(final FileChannel channel, final int capacity) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity).order(ByteOrder.nativeOrder());
+        }
+        
+        @Override
+        public void close() throws IOException {
+            
+            IOException error = null;
+            
+            for (final RandomAccessFile file : files.values()) {
+                try {
+                    file.close();
+                    
+                } catch (IOException e) {
+                    error = e;
+                }
+            }
+            
+            files.clear();
+            
+            for (final File path : paths.values()) {
+                // a mapped region is released by the garbage collector, some platforms do not delete a mapped file
+                if (!path.delete() && path.exists()) {
+                    path.deleteOnExit();
+                }
+            }
+            
+            paths.clear();
+            
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.impl;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.tangem.rdf.Rdf;
+import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfGraph;
+import com.tangem.rdf.RdfNQuad;
+import com.tangem.rdf.RdfResource;
+import com.tangem.rdf.RdfTriple;
+import com.tangem.rdf.RdfValue;
+
+/**
+ * An {@link RdfDataset} keeping terms and N-Quads outside of the Java heap.
+ * <p>
+ * Terms are interned in a dictionary and each N-Quad is stored as a row of
+ * term ids in an off-heap column. Statements are decoded on access, so
+ * {@link #toList()} and {@link RdfGraph#toList()} are views that do not hold
+ * the decoded N-Quads.
+ * </p>
+ * <p>
+ * Columns are either direct buffers, see {@link #create()}, or memory mapped
+ * files in a directory, see {@link #create(File)}. A single column is limited
+ * to 2GB. The dataset is not thread-safe.
+ * </p>
+ */
+public final class ColumnarRdfDataset implements RdfDataset, Closeable {
+
+    private static final int DEFAULT_GRAPH = -1;
+    
+    // subject, predicate, object, graph name, next statement in the graph
+    private static final int ROW = 5 * 4;
+    
+    private final ColumnStorage storage;
+    
+    private final TermDictionary terms;
+
+    private ByteBuffer quads;
+    
+    // open addressing table, slot -> statement index + 1
+    private ByteBuffer table;
+    private int mask;
+    
+    private int size;
+    
+    // graph name id -> graph 
+    private final Map<Integer, Graph> graphs;
+    
+    private ColumnarRdfDataset(final ColumnStorage storage) {
+        this.storage = storage;
+        this.terms = new TermDictionary(storage);
+        this.quads = storage.allocate("quads", 1024 * ROW);
+        this.table = storage.allocate("quad-table", 2048 * 4);
+        this.mask = 2048 - 1;
+        this.size = 0;
+        this.graphs = new LinkedHashMap<>();
+        this.graphs.put(DEFAULT_GRAPH, new Graph(DEFAULT_GRAPH));
+    }
+
+    /**
+     * Create a new empty dataset backed by direct buffers.
+     * 
+     * @return a new dataset
+     */
+    public static final ColumnarRdfDataset create() {
+        return new ColumnarRdfDataset(ColumnStorage.direct());
+    }
+
+    /**
+     * Create a new empty dataset backed by memory mapped files. Each dataset
+     * creates its own uniquely named files in the given directory, so a directory
+     * can be shared by many datasets. The files are deleted by {@link #close()}.
+     * 
+     * @param directory to store the column files in
+     * @return a new dataset
+     */
+    public static final ColumnarRdfDataset create(final File directory) {
+        return new ColumnarRdfDataset(ColumnStorage.mapped(directory));
+    }
+    
+    @Override
+    public RdfGraph getDefaultGraph() {
+        return graphs.get(DEFAULT_GRAPH);
+    }
+
+    @Override
+    public void add(final RdfNQuad nquad) {
+
+        if (nquad == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        final int subject = terms.add(nquad.getSubject());
+        final int predicate = terms.add(nquad.getPredicate());
+        final int object = terms.add(nquad.getObject());
+        final int graphName = nquad.getGraphName().map(terms::add).orElse(DEFAULT_GRAPH);
+
+        final int hash = hash(subject, predicate, object, graphName);
+        
+        if (find(hash, subject, predicate, object, graphName) != -1) {
+            return;
+        }
+        
+        if (size == Integer.MAX_VALUE / ROW) {
+            throw new IllegalStateException("Dataset capacity limit has been reached.");
+        }
+        
+        final int index = size;
+        
+        if (quads.capacity() < (index + 1) * ROW) {
+            quads = storage.grow("quads", quads, ColumnStorage.nextCapacity(quads.capacity(), (index + 1) * ROW));
+        }
+        
+        final int offset = index * ROW;
+        
+        quads.putInt(offset, subject);
+        quads.putInt(offset + 4, predicate);
+        quads.putInt(offset + 8, object);
+        quads.putInt(offset + 12, graphName);
+        quads.putInt(offset + 16, -1);
+
+        graphs.computeIfAbsent(graphName, Graph::new).append(index);
+        
+        size++;
+        
+        // keep load factor below 0.5
+        if (size * 2 > mask + 1) {
+            rehash((mask + 1) * 2);
+
+        } else {
+            put(hash, index);
+        }
+    }
+
+    @Override
+    public List<RdfNQuad> toList() {
+        return new AbstractList<RdfNQuad>() {
+
+            @Override
+            public RdfNQuad get(final int index) {
+                
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException();
+                }
+                
+                return quad(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<RdfResource> getGraphNames() {
+        return new AbstractSet<RdfResource>() {
+
+            @Override
+            public Iterator<RdfResource> iterator() {
+                
+                final Iterator<Integer> ids = graphs.keySet().iterator();
+                
+                // skip the default graph
+                ids.next();
+                
+                return new Iterator<RdfResource>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return ids.hasNext();
+                    }
+
+                    @Override
+                    public RdfResource next() {
+                        return (RdfResource) terms.get(ids.next());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return graphs.size() - 1;
+            }
+            
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof RdfResource && graph((RdfResource) o) != null;
+            }
+        };
+    }
+
+    @Override
+    public Optional<RdfGraph> getGraph(final RdfResource graphName) {
+        return Optional.ofNullable(graph(graphName));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Close and delete the column files. Direct buffers are released by the garbage collector.
+     * A file that cannot be deleted while it is still mapped, e.g. on Windows, is deleted
+     * when the virtual machine terminates. The dataset cannot be used once closed.
+     */
+    @Override
+    public void close() throws IOException {
+
+        // no references to the mapped regions are kept
+        quads = null;
+        table = null;
+        terms.release();
+
+        storage.close();
+    }
+    
+    private Graph graph(final RdfResource graphName) {
+        
+        if (graphName == null) {
+            return null;
+        }
+        
+        final int id = terms.indexOf(graphName);
+        
+        return id != -1 ? graphs.get(id) : null;
+    }
+    
+    private RdfNQuad quad(final int index) {
+        
+        final int offset = index * ROW;
+        
+        final int graphName = quads.getInt(offset + 12);
+        
+        return Rdf.createNQuad(
+                    (RdfResource) terms.get(quads.getInt(offset)),
+                    (RdfResource) terms.get(quads.getInt(offset + 4)),
+                    terms.get(quads.getInt(offset + 8)),
+                    graphName != DEFAULT_GRAPH ? (RdfResource) terms.get(graphName) : null
+                    );
+    }
+
+    private int find(final int hash, final int subject, final int predicate, final int object, final int graphName) {
+        
+        int slot = hash & mask;
+        int entry;
+        
+        while ((entry = table.getInt(slot * 4)) != 0) {
+            
+            final int offset = (entry - 1) * ROW;
+            
+            if (quads.getInt(offset) == subject
+                    && quads.getInt(offset + 4) == predicate
+                    && quads.getInt(offset + 8) == object
+                    && quads.getInt(offset + 12) == graphName
+                    ) {
+                return entry - 1;
+            }
+            
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+    
+    private void put(final int hash, final int index) {
+        
+        int slot = hash & mask;
+        
+        while (table.getInt(slot * 4) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        
+        table.putInt(slot * 4, index + 1);
+    }
+
+    private void rehash(final int slots) {
+        
+        table = storage.allocate("quad-table", slots * 4);
+        mask = slots - 1;
+        
+        for (int index = 0; index < size; index++) {
+            
+            final int offset = index * ROW;
+            
+            put(hash(quads.getInt(offset), quads.getInt(offset + 4), quads.getInt(offset + 8), quads.getInt(offset + 12)), index);
+        }
+    }
+
+    private static int hash(final int subject, final int predicate, final int object, final int graphName) {
+        
+        int hash = subject;
+        
+        hash = 31 * hash + predicate;
+        hash = 31 * hash + object;
+        hash = 31 * hash + graphName;
+        
+        hash *= 0x9E3779B9;
+        
+        return hash ^ (hash >>> 16);
+    }
+    
+    /**
+     * Statements of a graph are chained through the next statement column.
+     */
+    private final class Graph implements RdfGraph {
+        
+        private final int graphName;
+        
+        private int head;
+        private int tail;
+        private int count;
+
+        // the last accessed position, makes sequential access linear
+        private int cursorIndex;
+        private int cursorRow;
+        
+        Graph(final int graphName) {
+            this.graphName = graphName;
+            this.head = -1;
+            this.tail = -1;
+            this.count = 0;
+            this.cursorIndex = -1;
+            this.cursorRow = -1;
+        }
+
+        void append(final int row) {
+            
+            if (tail != -1) {
+                quads.putInt(tail * ROW + 16, row);
+                
+            } else {
+                head = row;
+            }
+            
+            tail = row;
+            count++;
+        }
+
+        @Override
+        public boolean contains(final RdfTriple triple) {
+            
+            if (triple == null) {
+                throw new IllegalArgumentException();
+            }
+            
+            final int subject = terms.indexOf(triple.getSubject());
+            final int predicate = terms.indexOf(triple.getPredicate());
+            final int object = terms.indexOf(triple.getObject());
+            
+            if (subject == -1 || predicate == -1 || object == -1) {
+                return false;
+            }
+            
+            return find(hash(subject, predicate, object, graphName), subject, predicate, object, graphName) != -1;
+        }
+
+        @Override
+        public List<RdfTriple> toList() {
+            return new AbstractList<RdfTriple>() {
+
+                @Override
+                public RdfTriple get(final int index) {
+                    
+                    if (index < 0 || index >= count) {
+                        throw new IndexOutOfBoundsException();
+                    }
+                    
+                    return quad(row(index));
+                }
+
+                @Override
+                public int size() {
+                    return count;
+                }
+            };
+        }
+        
+        private int row(final int index) {
+            
+            if (cursorIndex == -1 || index < cursorIndex) {
+                cursorIndex = 0;
+                cursorRow = head;
+            }
+            
+            while (cursorIndex < index) {
+                cursorRow = quads.getInt(cursorRow * ROW + 16);
+                cursorIndex++;
+            }
+            
+            return cursorRow;
+        }
+    }
+}
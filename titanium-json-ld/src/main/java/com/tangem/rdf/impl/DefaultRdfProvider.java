@@ -15,6 +15,8 @@
  */
 package com.tangem.rdf.impl;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.Arrays;
@@ -32,6 +34,8 @@ import com.tangem.rdf.RdfValue;
 import com.tangem.rdf.impl.RdfResourceImpl;
 import com.tangem.rdf.io.RdfReader;
 import com.tangem.rdf.io.RdfWriter;
+import com.tangem.rdf.io.binary.BinaryRdfReader;
+import com.tangem.rdf.io.binary.BinaryRdfWriter;
 import com.tangem.rdf.io.error.UnsupportedContentException;
 import com.tangem.rdf.io.nquad.NQuadsWriter;
 import com.tangem.rdf.io.nquad.NQuadsReader;
@@ -41,7 +45,7 @@ public final class DefaultRdfProvider extends com.tangem.rdf.spi.RdfProvider {
 
     public static final RdfProvider INSTANCE = new DefaultRdfProvider();
     
-    private static final Collection<MediaType> CAN_READWRITE = Arrays.asList(MediaType.N_QUADS);
+    private static final Collection<MediaType> CAN_READWRITE = Arrays.asList(MediaType.N_QUADS, MediaType.BINARY_RDF);
     
     @Override
     public RdfDataset createDataset() {
@@ -61,6 +65,24 @@ public final class DefaultRdfProvider extends com.tangem.rdf.spi.RdfProvider {
         throw new UnsupportedContentException(contentType.toString());
     }
 
+    @Override
+    public RdfReader createReader(final MediaType contentType, final InputStream is) throws UnsupportedContentException {
+
+        if (is == null || contentType == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        if (MediaType.N_QUADS.match(contentType)) {
+            return super.createReader(contentType, is);
+        }
+        
+        if (MediaType.BINARY_RDF.match(contentType)) {
+            return new BinaryRdfReader(is);
+        }
+        
+        throw new UnsupportedContentException(contentType.toString());
+    }
+
     @Override
     public RdfWriter createWriter(final MediaType contentType, final Writer writer) throws UnsupportedContentException {
 
@@ -75,6 +97,24 @@ public final class DefaultRdfProvider extends com.tangem.rdf.spi.RdfProvider {
         throw new UnsupportedContentException(contentType.toString());
     }
 
+    @Override
+    public RdfWriter createWriter(final MediaType contentType, final OutputStream os) throws UnsupportedContentException {
+
+        if (os == null || contentType == null) {
+            throw new IllegalArgumentException();
+        }
+
+        if (MediaType.N_QUADS.match(contentType)) {
+            return super.createWriter(contentType, os);
+        }
+
+        if (MediaType.BINARY_RDF.match(contentType)) {
+            return new BinaryRdfWriter(os);
+        }
+        
+        throw new UnsupportedContentException(contentType.toString());
+    }
+
     @Override
     public RdfGraph createGraph() {
         return new RdfGraphImpl();
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.tangem.rdf.Rdf;
+import com.tangem.rdf.RdfLiteral;
+import com.tangem.rdf.RdfValue;
+import com.tangem.rdf.lang.XsdConstants;
+
+/**
+ * An append-only dictionary of RDF terms. Encoded terms, their offsets and the
+ * lookup hash table are kept in {@link ColumnStorage} columns.
+ * 
+ * A term record is <code>[int length][byte kind][payload]</code> where
+ * payload is UTF-8 encoded value for IRIs and blank nodes, 
+ * <code>[int datatype id][value]</code> for typed literals and
+ * <code>[int tag length][tag][value]</code> for language-tagged strings. 
+ */
+final class TermDictionary {
+
+    private static final byte IRI = 1;
+    private static final byte BLANK_NODE = 2;
+    private static final byte TYPED_LITERAL = 3;
+    private static final byte LANG_LITERAL = 4;
+
+    private static final int CACHE_SIZE = 1024;
+    
+    private final ColumnStorage storage;
+
+    // encoded terms
+    private ByteBuffer data;
+    
+    // term id -> record offset, term id -> hash
+    private ByteBuffer offsets;
+    private ByteBuffer hashes;
+    
+    // open addressing table, slot -> term id + 1
+    private ByteBuffer table;
+    private int mask;
+    
+    private int size;
+    private int dataSize;
+
+    private byte[] scratch;
+    private int scratchLength;
+
+    // a small cache of decoded terms, e.g. predicates and types 
+    private final RdfValue[] cache;
+    private final int[] cacheIds;
+
+    TermDictionary(final ColumnStorage storage) {
+        this.storage = storage;
+        this.data = storage.allocate("terms", 1 << 16);
+        this.offsets = storage.allocate("term-offsets", 1 << 12);
+        this.hashes = storage.allocate("term-hashes", 1 << 12);
+        this.table = storage.allocate("term-table", 1 << 12);
+        this.mask = (1 << 10) - 1;
+        this.size = 0;
+        this.dataSize = 0;
+        this.scratch = new byte[256];
+        this.cache = new RdfValue[CACHE_SIZE];
+        this.cacheIds = new int[CACHE_SIZE];
+        Arrays.fill(cacheIds, -1);
+    }
+
+    // drops the columns, so mapped regions can be released before the files are deleted
+    void release() {
+        this.data = null;
+        this.offsets = null;
+        this.hashes = null;
+        this.table = null;
+    }
+
+    /**
+     * Returns term id, adds the term to the dictionary if it is not present.
+     * 
+     * @param value to look up
+     * @return term id
+     */
+    int add(final RdfValue value) {
+        
+        encode(value, true);
+        
+        final int hash = hash(scratch, scratchLength);
+        
+        final int id = find(hash);
+        
+        if (id != -1) {
+            return id;
+        }
+
+        return insert(hash);
+    }
+    
+    /**
+     * Returns term id or <code>-1</code> if the term is not present.
+     * 
+     * @param value to look up
+     * @return term id or <code>-1</code>
+     */
+    int indexOf(final RdfValue value) {
+        
+        if (!encode(value, false)) {
+            return -1;
+        }
+        
+        return find(hash(scratch, scratchLength));
+    }
+
+    RdfValue get(final int id) {
+
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Term id [" + id + "] is out of range [0, " + size + ").");
+        }
+        
+        final int slot = id & (CACHE_SIZE - 1);
+        
+        if (cacheIds[slot] == id) {
+            return cache[slot];
+        }
+        
+        final RdfValue value = decode(offsets.getInt(id * 4));
+        
+        cache[slot] = value;
+        cacheIds[slot] = id;
+        
+        return value;
+    }
+    
+    int size() {
+        return size;
+    }
+
+    private int find(final int hash) {
+
+        int slot = hash & mask;
+        int entry;
+        
+        while ((entry = table.getInt(slot * 4)) != 0) {
+            
+            final int id = entry - 1;
+            
+            if (hashes.getInt(id * 4) == hash && matches(offsets.getInt(id * 4))) {
+                return id;
+            }
+            
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+    
+    private int insert(final int hash) {
+
+        if (size == Integer.MAX_VALUE / 4) {
+            throw new IllegalStateException("Dictionary capacity limit has been reached.");
+        }
+        
+        final int id = size;
+        
+        // write record
+        ensureData(dataSize + 4 + scratchLength);
+
+        data.putInt(dataSize, scratchLength);
+        
+        for (int i = 0; i < scratchLength; i++) {
+            data.put(dataSize + 4 + i, scratch[i]);
+        }
+        
+        if (offsets.capacity() < (id + 1) * 4) {
+            final int capacity = ColumnStorage.nextCapacity(offsets.capacity(), (id + 1) * 4);
+            offsets = storage.grow("term-offsets", offsets, capacity);
+            hashes = storage.grow("term-hashes", hashes, capacity);
+        }
+        
+        offsets.putInt(id * 4, dataSize);
+        hashes.putInt(id * 4, hash);
+        
+        dataSize += 4 + scratchLength;
+        size++;
+
+        // keep load factor below 0.5
+        if (size * 2 > mask + 1) {
+            rehash((mask + 1) * 2);
+            
+        } else {
+            put(table, mask, hash, id);
+        }
+        
+        return id;
+    }
+
+    private void rehash(final int slots) {
+        
+        table = storage.allocate("term-table", slots * 4);
+        mask = slots - 1;
+        
+        for (int id = 0; id < size; id++) {
+            put(table, mask, hashes.getInt(id * 4), id);
+        }
+    }
+
+    private static void put(final ByteBuffer table, final int mask, final int hash, final int id) {
+        
+        int slot = hash & mask;
+        
+        while (table.getInt(slot * 4) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        
+        table.putInt(slot * 4, id + 1);
+    }
+    
+    private void ensureData(final int required) {
+        if (required < 0) {
+            throw new IllegalStateException("Dictionary capacity limit has been reached.");
+        }
+        if (data.capacity() < required) {
+            data = storage.grow("terms", data, ColumnStorage.nextCapacity(data.capacity(), required));
+        }
+    }
+    
+    private boolean matches(final int offset) {
+        
+        if (data.getInt(offset) != scratchLength) {
+            return false;
+        }
+        
+        for (int i = 0; i < scratchLength; i++) {
+            if (data.get(offset + 4 + i) != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean encode(final RdfValue value, final boolean insert) {
+        
+        if (value == null) {
+            throw new IllegalArgumentException("RDF value cannot be null.");
+        }
+        
+        scratchLength = 0;
+        
+        if (value.isLiteral()) {
+
+            final RdfLiteral literal = value.asLiteral();
+            
+            final Optional<String> language = literal.getLanguage();
+            
+            if (language.isPresent()) {
+                
+                final byte[] tag = language.get().getBytes(StandardCharsets.UTF_8);
+                
+                appendByte(LANG_LITERAL);
+                appendInt(tag.length);
+                appendBytes(tag);
+                
+            } else {
+
+                final String datatype = literal.getDatatype() != null 
+                                            ? literal.getDatatype()
+                                            : XsdConstants.STRING;
+
+                final int datatypeId = insert 
+                                            ? add(Rdf.createIRI(datatype))
+                                            : indexOf(Rdf.createIRI(datatype));
+
+                if (datatypeId == -1) {
+                    return false;
+                }
+
+                // datatype lookup has overwritten the scratch buffer
+                scratchLength = 0;
+                
+                appendByte(TYPED_LITERAL);
+                appendInt(datatypeId);
+            }
+
+            appendBytes(literal.getValue().getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+
+        appendByte(value.isBlankNode() ? BLANK_NODE : IRI);
+        appendBytes(value.getValue().getBytes(StandardCharsets.UTF_8));
+        return true;
+    }
+    
+    private RdfValue decode(final int offset) {
+        
+        final int length = data.getInt(offset);
+        final byte kind = data.get(offset + 4);
+        
+        int position = offset + 5;
+        int remaining = length - 1;
+        
+        if (kind == IRI) {
+            return Rdf.createIRI(readString(position, remaining));
+        }
+        
+        if (kind == BLANK_NODE) {
+            return Rdf.createBlankNode(readString(position, remaining));
+        }
+        
+        if (kind == TYPED_LITERAL) {
+            
+            final RdfValue datatype = get(readInt(position));
+            
+            return Rdf.createTypedString(readString(position + 4, remaining - 4), datatype.getValue());
+        }
+
+        if (kind == LANG_LITERAL) {
+
+            final int tagLength = readInt(position);
+            
+            final String tag = readString(position + 4, tagLength);
+            
+            position += 4 + tagLength;
+            remaining -= 4 + tagLength;
+            
+            return Rdf.createLangString(readString(position, remaining), tag);
+        }
+        
+        throw new IllegalStateException("Unknown term kind [" + kind + "] at [" + offset + "].");
+    }
+    
+    private String readString(final int offset, final int length) {
+        
+        final byte[] bytes = new byte[length];
+        
+        for (int i = 0; i < length; i++) {
+            bytes[i] = data.get(offset + i);
+        }
+        
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private int readInt(final int offset) {
+        return ((data.get(offset) & 0xff) << 24)
+                | ((data.get(offset + 1) & 0xff) << 16)
+                | ((data.get(offset + 2) & 0xff) << 8)
+                | (data.get(offset + 3) & 0xff);
+    }
+
+    private void appendByte(final byte value) {
+        ensureScratch(1);
+        scratch[scratchLength++] = value;
+    }
+    
+    private void appendInt(final int value) {
+        ensureScratch(4);
+        scratch[scratchLength++] = (byte) (value >>> 24);
+        scratch[scratchLength++] = (byte) (value >>> 16);
+        scratch[scratchLength++] = (byte) (value >>> 8);
+        scratch[scratchLength++] = (byte) value;
+    }
+    
+    private void appendBytes(final byte[] bytes) {
+        ensureScratch(bytes.length);
+        System.arraycopy(bytes, 0, scratch, scratchLength, bytes.length);
+        scratchLength += bytes.length;
+    }
+
+    private void ensureScratch(final int length) {
+        if (scratch.length < scratchLength + length) {
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + length));
+        }
+    }
+    
+    private static int hash(final byte[] bytes, final int length) {
+
+        int hash = 0x811c9dc5;
+        
+        for (int i = 0; i < length; i++) {
+            hash ^= bytes[i];
+            hash *= 0x01000193;
+        }
+        
+        return hash ^ (hash >>> 16);
+    }
+}
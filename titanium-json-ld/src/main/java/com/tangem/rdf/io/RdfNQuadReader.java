@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.io;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import com.tangem.rdf.RdfNQuad;
+import com.tangem.rdf.io.error.RdfReaderException;
+
+/**
+ * A reader able to read statements one by one, without building a dataset.
+ */
+public interface RdfNQuadReader extends RdfReader {
+
+    /**
+     * Reads the next statement without building a dataset, i.e. duplicate
+     * statements are not removed. 
+     * 
+     * @return the next statement or <code>null</code> if the input has been read
+     * @throws IOException if the input cannot be read
+     * @throws RdfReaderException if the input is not valid
+     */
+    RdfNQuad readNQuad() throws IOException, RdfReaderException;
+    
+    /**
+     * Reads all remaining statements one by one without building a dataset.
+     * 
+     * @param consumer accepting the statements in the input order
+     * @throws IOException if the input cannot be read
+     * @throws RdfReaderException if the input is not valid
+     */
+    @Override
+    default void read(Consumer<RdfNQuad> consumer) throws IOException, RdfReaderException {
+        
+        if (consumer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        RdfNQuad nquad;
+        
+        while ((nquad = readNQuad()) != null) {
+            consumer.accept(nquad);
+        }
+    }
+}
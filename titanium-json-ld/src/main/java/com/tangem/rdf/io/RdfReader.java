@@ -16,12 +16,30 @@
 package com.tangem.rdf.io;
 
 import java.io.IOException;
+import java.util.function.Consumer;
 
 import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfNQuad;
 import com.tangem.rdf.io.error.RdfReaderException;
 
 public interface RdfReader {
     
     RdfDataset readDataset() throws IOException, RdfReaderException;
-    
+
+    /**
+     * Reads all remaining statements one by one. The default implementation
+     * reads a whole dataset first, streaming readers implement {@link RdfNQuadReader}.
+     * 
+     * @param consumer accepting the statements in the input order
+     * @throws IOException if the input cannot be read
+     * @throws RdfReaderException if the input is not valid
+     */
+    default void read(Consumer<RdfNQuad> consumer) throws IOException, RdfReaderException {
+        
+        if (consumer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        readDataset().toList().forEach(consumer);
+    }
 }
\ No newline at end of file
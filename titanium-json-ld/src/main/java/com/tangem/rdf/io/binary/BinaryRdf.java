@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.io.binary;
+
+/**
+ * Constants of the binary RDF format.
+ * <p>
+ * A document starts with {@link #MAGIC} followed by {@link #VERSION}. Then a
+ * sequence of statements follows, each statement starts with a record tag,
+ * {@link #TRIPLE} or {@link #QUAD}, followed by subject, predicate, object and
+ * graph name (if tag is {@link #QUAD}) term references. The document ends with
+ * {@link #END}.
+ * </p>
+ * <p>
+ * A term reference is an unsigned variable-length integer (LEB128). Zero
+ * means that a term definition follows, the term gets the next id, ids start
+ * at zero. Any other value <code>n</code> references an already defined term
+ * with id <code>n - 1</code>.
+ * </p>
+ * <p>
+ * A term definition is a term kind followed by UTF-8 encoded value prefixed
+ * by its length in bytes. A typed literal has a datatype term reference
+ * after the kind, a language-tagged string has a language tag string after
+ * the kind.
+ * </p>
+ */
+final class BinaryRdf {
+
+    static final byte[] MAGIC = new byte[] { 'T', 'R', 'D', 'F' };
+
+    static final int VERSION = 1;
+    
+    // records
+    static final int END = 0;
+    static final int TRIPLE = 1;
+    static final int QUAD = 2;
+
+    // term kinds
+    static final int IRI = 1;
+    static final int BLANK_NODE = 2;
+    static final int TYPED_LITERAL = 3;
+    static final int LANG_STRING = 4;
+    
+    static final int NEW_TERM = 0;
+    
+    private BinaryRdf() {
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.io.binary;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.tangem.rdf.Rdf;
+import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfNQuad;
+import com.tangem.rdf.RdfResource;
+import com.tangem.rdf.RdfValue;
+import com.tangem.rdf.io.RdfNQuadReader;
+import com.tangem.rdf.io.error.RdfReaderException;
+
+/**
+ * Reads a dataset written by {@link BinaryRdfWriter}.
+ */
+public final class BinaryRdfReader implements RdfNQuadReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    // longer strings are read in chunks of this size, the scratch buffer does not grow beyond it
+    private static final int MAX_SCRATCH_SIZE = 64 * 1024;
+    
+    private final InputStream is;
+    
+    private final List<RdfValue> terms;
+    
+    private byte[] scratch;
+    
+    private boolean header;
+    
+    private boolean end;
+    
+    private RdfDataset dataset;
+    
+    public BinaryRdfReader(final InputStream is) {
+        
+        if (is == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        this.is = new BufferedInputStream(is, BUFFER_SIZE);
+        this.terms = new ArrayList<>();
+        this.scratch = new byte[256];
+        this.header = false;
+        this.end = false;
+        this.dataset = null;
+    }
+    
+    /**
+     * Reads all remaining statements into a dataset.
+     */
+    @Override
+    public RdfDataset readDataset() throws IOException, RdfReaderException {
+
+        if (dataset != null) {
+            return dataset;
+        }
+        
+        final RdfDataset result = Rdf.createDataset();
+        
+        read(result::add);
+        
+        dataset = result;
+        return dataset;
+    }
+
+    @Override
+    public RdfNQuad readNQuad() throws IOException, RdfReaderException {
+
+        if (end) {
+            return null;
+        }
+        
+        if (!header) {
+            readHeader();
+        }
+        
+        final int record = readByte();
+        
+        if (record == BinaryRdf.END) {
+            end = true;
+            return null;
+        }
+        
+        if (record != BinaryRdf.TRIPLE && record != BinaryRdf.QUAD) {
+            throw new RdfReaderException("Unknown record [" + record + "].");
+        }
+        
+        final RdfResource subject = readResource();
+        final RdfResource predicate = readResource();
+        final RdfValue object = readTerm();
+        
+        final RdfResource graphName = record == BinaryRdf.QUAD ? readResource() : null;
+        
+        return Rdf.createNQuad(subject, predicate, object, graphName);
+    }
+    
+    private void readHeader() throws IOException, RdfReaderException {
+        
+        final byte[] magic = new byte[BinaryRdf.MAGIC.length];
+        
+        for (int i = 0; i < magic.length; i++) {
+            magic[i] = (byte) readByte();
+        }
+        
+        if (!Arrays.equals(BinaryRdf.MAGIC, magic)) {
+            throw new RdfReaderException("The input is not binary RDF.");
+        }
+        
+        final int version = readByte();
+        
+        if (version != BinaryRdf.VERSION) {
+            throw new RdfReaderException("Unsupported binary RDF version [" + version + "], expected [" + BinaryRdf.VERSION + "].");
+        }
+        
+        header = true;
+    }
+    
+    private RdfResource readResource() throws IOException, RdfReaderException {
+        
+        final RdfValue value = readTerm();
+        
+        if (value.isLiteral()) {
+            throw new RdfReaderException("Expected IRI or blank node but was literal [" + value + "].");
+        }
+        
+        return (RdfResource) value;
+    }
+    
+    private RdfValue readTerm() throws IOException, RdfReaderException {
+        
+        final int reference = readVarInt();
+        
+        if (reference != BinaryRdf.NEW_TERM) {
+            return getTerm(reference);
+        }
+        
+        final int kind = readByte();
+
+        final RdfValue value;
+        
+        if (kind == BinaryRdf.IRI) {
+            value = Rdf.createIRI(readString());
+            
+        } else if (kind == BinaryRdf.BLANK_NODE) {
+            value = Rdf.createBlankNode(readString());
+            
+        } else if (kind == BinaryRdf.TYPED_LITERAL) {
+            
+            final RdfValue datatype = readDatatype();
+            
+            value = Rdf.createTypedString(readString(), datatype.getValue());
+            
+        } else if (kind == BinaryRdf.LANG_STRING) {
+            
+            final String language = readString();
+            
+            value = Rdf.createLangString(readString(), language);
+            
+        } else {
+            throw new RdfReaderException("Unknown term kind [" + kind + "].");
+        }
+        
+        terms.add(value);
+        
+        return value;
+    }
+
+    // a datatype is an IRI, defined before the literal or referenced 
+    private RdfValue readDatatype() throws IOException, RdfReaderException {
+        
+        final int reference = readVarInt();
+        
+        final RdfValue datatype;
+        
+        if (reference != BinaryRdf.NEW_TERM) {
+            datatype = getTerm(reference);
+            
+        } else if (readByte() == BinaryRdf.IRI) {
+            datatype = Rdf.createIRI(readString());
+            terms.add(datatype);
+            
+        } else {
+            throw new RdfReaderException("Expected datatype IRI definition.");
+        }
+        
+        if (!datatype.isIRI()) {
+            throw new RdfReaderException("Expected datatype IRI but was [" + datatype + "].");
+        }
+        
+        return datatype;
+    }
+    
+    private RdfValue getTerm(final int reference) throws RdfReaderException {
+        
+        if (reference < 1 || reference > terms.size()) {
+            throw new RdfReaderException("Undefined term reference [" + reference + "].");
+        }
+        
+        return terms.get(reference - 1);
+    }
+
+    private String readString() throws IOException, RdfReaderException {
+        
+        final int length = readVarInt();
+        
+        if (length < 0) {
+            throw new RdfReaderException("Invalid string length [" + length + "].");
+        }
+        
+        if (length <= MAX_SCRATCH_SIZE) {
+            
+            if (scratch.length < length) {
+                scratch = new byte[Math.min(Math.max(length, scratch.length * 2), MAX_SCRATCH_SIZE)];
+            }
+            
+            readFully(scratch, length);
+            
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        // the declared length is not trusted, the buffer grows as the content is read
+        final ByteArrayOutputStream content = new ByteArrayOutputStream(MAX_SCRATCH_SIZE);
+        
+        scratch = scratch.length < MAX_SCRATCH_SIZE ? new byte[MAX_SCRATCH_SIZE] : scratch;
+        
+        for (int remaining = length; remaining > 0; ) {
+            
+            final int chunk = Math.min(remaining, MAX_SCRATCH_SIZE);
+            
+            readFully(scratch, chunk);
+            content.write(scratch, 0, chunk);
+            
+            remaining -= chunk;
+        }
+        
+        return new String(content.toByteArray(), StandardCharsets.UTF_8);
+    }
+    
+    private void readFully(final byte[] buffer, final int length) throws IOException, RdfReaderException {
+        
+        int offset = 0;
+        
+        while (offset < length) {
+            
+            final int count = is.read(buffer, offset, length - offset);
+            
+            if (count == -1) {
+                throw new RdfReaderException("Unexpected end of input.");
+            }
+            offset += count;
+        }
+    }
+    
+    private int readVarInt() throws IOException, RdfReaderException {
+        
+        int value = 0;
+        int shift = 0;
+        int b;
+        
+        do {
+            if (shift > 28) {
+                throw new RdfReaderException("Invalid variable-length integer.");
+            }
+            
+            b = readByte();
+            
+            value |= (b & 0x7f) << shift;
+            shift += 7;
+            
+        } while ((b & 0x80) != 0);
+        
+        return value;
+    }
+
+    private int readByte() throws IOException, RdfReaderException {
+        
+        final int b = is.read();
+        
+        if (b == -1) {
+            throw new RdfReaderException("Unexpected end of input.");
+        }
+        
+        return b;
+    }
+}
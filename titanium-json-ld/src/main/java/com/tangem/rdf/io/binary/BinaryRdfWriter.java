@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.io.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.tangem.rdf.Rdf;
+import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfLiteral;
+import com.tangem.rdf.RdfNQuad;
+import com.tangem.rdf.RdfResource;
+import com.tangem.rdf.RdfValue;
+import com.tangem.rdf.io.RdfWriter;
+
+/**
+ * Writes a dataset in the compact binary RDF format, a term dictionary
+ * built on the fly and variable-length encoded term references. 
+ * 
+ * @see BinaryRdfReader
+ */
+public final class BinaryRdfWriter implements RdfWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final OutputStream os;
+    
+    private final Map<RdfValue, Integer> terms;
+    
+    public BinaryRdfWriter(final OutputStream os) {
+        
+        if (os == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        this.os = new BufferedOutputStream(os, BUFFER_SIZE);
+        this.terms = new HashMap<>();
+    }
+    
+    @Override
+    public void write(final RdfDataset dataset) throws IOException {
+        
+        if (dataset == null) {
+            throw new IllegalArgumentException();
+        }
+
+        write(dataset.toList());
+    }
+    
+    /**
+     * Writes a complete binary document consisting of the given statements.
+     *  
+     * @param nquads to write
+     * @throws IOException if the output cannot be written
+     */
+    public void write(final Iterable<? extends RdfNQuad> nquads) throws IOException {
+
+        if (nquads == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        terms.clear();
+        
+        os.write(BinaryRdf.MAGIC);
+        os.write(BinaryRdf.VERSION);
+        
+        for (final RdfNQuad nquad : nquads) {
+
+            final Optional<RdfResource> graphName = nquad.getGraphName();
+            
+            os.write(graphName.isPresent() ? BinaryRdf.QUAD : BinaryRdf.TRIPLE);
+            
+            writeTerm(nquad.getSubject());
+            writeTerm(nquad.getPredicate());
+            writeTerm(nquad.getObject());
+            
+            if (graphName.isPresent()) {
+                writeTerm(graphName.get());
+            }
+        }
+        
+        os.write(BinaryRdf.END);
+        os.flush();
+    }
+
+    private void writeTerm(final RdfValue value) throws IOException {
+        
+        final Integer id = terms.get(value);
+        
+        if (id != null) {
+            writeVarInt(id + 1);
+            return;
+        }
+        
+        writeVarInt(BinaryRdf.NEW_TERM);
+        
+        if (value.isLiteral()) {
+            
+            final RdfLiteral literal = value.asLiteral();
+            
+            final Optional<String> language = literal.getLanguage();
+            
+            if (language.isPresent()) {
+                os.write(BinaryRdf.LANG_STRING);
+                writeString(language.get());
+                
+            } else {
+                os.write(BinaryRdf.TYPED_LITERAL);
+                // a datatype is defined before the literal gets its id 
+                writeTerm(Rdf.createIRI(literal.getDatatype()));
+            }
+            
+        } else {
+            os.write(value.isBlankNode() ? BinaryRdf.BLANK_NODE : BinaryRdf.IRI);
+        }
+        
+        writeString(value.getValue());
+        
+        terms.put(value, terms.size());
+    }
+    
+    private void writeString(final String value) throws IOException {
+        
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        
+        writeVarInt(bytes.length);
+        os.write(bytes);
+    }
+    
+    private void writeVarInt(int value) throws IOException {
+        
+        while ((value & ~0x7f) != 0) {
+            os.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        
+        os.write(value);
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.io.nquad;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfLiteral;
+import com.tangem.rdf.RdfNQuad;
+import com.tangem.rdf.RdfResource;
+import com.tangem.rdf.RdfValue;
+import com.tangem.rdf.io.RdfWriter;
+import com.tangem.rdf.lang.XsdConstants;
+
+/**
+ * Writes N-Quads as UTF-8 bytes to an {@link OutputStream} or a {@link WritableByteChannel}.
+ * Characters are encoded and escaped directly into a reusable buffer, the buffer is 
+ * written out only when it is full or on {@link #flush()}.
+ * 
+ * @see <a href="https://www.w3.org/TR/n-quads/">RDF 1.1. N-Quads</a>
+ *
+ */
+public final class NQuadsByteWriter implements RdfWriter, Flushable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    
+    // the longest sequence written per character, i.e. \\u00XX 
+    private static final int MAX_CHAR_LENGTH = 6;
+    
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    
+    private final OutputStream os;
+    
+    private final WritableByteChannel channel;
+    
+    private final byte[] buffer;
+    
+    private final ByteBuffer wrapped;
+    
+    private int position;
+    
+    public NQuadsByteWriter(final OutputStream os) {
+        this(os, DEFAULT_BUFFER_SIZE);
+    }
+
+    public NQuadsByteWriter(final OutputStream os, final int bufferSize) {
+        this(os, null, bufferSize);
+    }
+
+    public NQuadsByteWriter(final WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public NQuadsByteWriter(final WritableByteChannel channel, final int bufferSize) {
+        this(null, channel, bufferSize);
+    }
+    
+    private NQuadsByteWriter(final OutputStream os, final WritableByteChannel channel, final int bufferSize) {
+
+        if (os == null && channel == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        if (bufferSize < MAX_CHAR_LENGTH * 4) {
+            throw new IllegalArgumentException("Buffer size must be at least [" + MAX_CHAR_LENGTH * 4 + "] but was [" + bufferSize + "].");
+        }
+        
+        this.os = os;
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+        this.wrapped = ByteBuffer.wrap(buffer);
+        this.position = 0;
+    }
+
+    @Override
+    public void write(final RdfDataset dataset) throws IOException {
+        
+        if (dataset == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        write(dataset.toList());
+    }
+
+    /**
+     * Writes all the statements and flushes the output.
+     * 
+     * @param nquads to write
+     * @throws IOException if the output cannot be written
+     */
+    public void write(final Iterable<? extends RdfNQuad> nquads) throws IOException {
+        
+        if (nquads == null) {
+            throw new IllegalArgumentException();
+        }
+
+        write(nquads.iterator());
+    }
+
+    /**
+     * Writes all the statements and flushes the output.
+     * 
+     * @param nquads to write
+     * @throws IOException if the output cannot be written
+     */
+    public void write(final Stream<? extends RdfNQuad> nquads) throws IOException {
+        
+        if (nquads == null) {
+            throw new IllegalArgumentException();
+        }
+
+        write(nquads.iterator());
+    }
+    
+    private void write(final Iterator<? extends RdfNQuad> nquads) throws IOException {
+        
+        while (nquads.hasNext()) {
+            write(nquads.next());
+        }
+        
+        flush();
+    }
+    
+    /**
+     * Writes the statement into the buffer, see {@link #flush()}.
+     * 
+     * @param nquad to write
+     * @throws IOException if the output cannot be written
+     */
+    public void write(final RdfNQuad nquad) throws IOException {
+        
+        if (nquad == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        writeValue(nquad.getSubject());
+        writeAscii(' ');
+        
+        writeValue(nquad.getPredicate());
+        writeAscii(' ');
+        
+        writeValue(nquad.getObject());
+        writeAscii(' ');
+        
+        final Optional<RdfResource> graphName = nquad.getGraphName();
+        
+        if (graphName.isPresent()) {
+            writeValue(graphName.get());
+            writeAscii(' ');            
+        }
+        
+        writeAscii('.');
+        writeAscii('\n');
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        
+        drain();
+        
+        if (os != null) {
+            os.flush();
+        }
+    }
+
+    private void writeValue(final RdfValue value) throws IOException {
+        
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        if (value.isIRI()) {
+            writeIri(value.getValue());
+            return;
+        }
+        
+        if (value.isLiteral()) {
+            writeLiteral(value.asLiteral());
+            return;
+        }
+        
+        if (value.isBlankNode()) {
+            writeString(value.getValue(), false);
+            return;
+        }
+
+        throw new IllegalStateException();
+    }
+    
+    private void writeLiteral(final RdfLiteral literal) throws IOException {
+        
+        writeAscii('"');
+        writeString(literal.getValue(), true);
+        writeAscii('"');
+
+        final Optional<String> language = literal.getLanguage();
+        
+        if (language.isPresent()) {
+
+            writeAscii('@');
+            writeString(language.get(), false);
+            
+        } else if (literal.getDatatype() != null && !XsdConstants.STRING.equals(literal.getDatatype())) {
+
+            writeAscii('^');
+            writeAscii('^');
+            writeIri(literal.getDatatype());
+        }
+    }
+
+    private void writeIri(final String iri) throws IOException {
+        writeAscii('<');
+        writeString(iri, false);
+        writeAscii('>');
+    }
+    
+    private void writeAscii(final char ch) throws IOException {
+
+        if (position == buffer.length) {
+            drain();
+        }
+        
+        buffer[position++] = (byte) ch;
+    }
+    
+    /**
+     * Encodes the value as UTF-8, escapes literal characters as {@link NQuadsWriter#escape(String)} does.
+     */
+    private void writeString(final String value, final boolean escape) throws IOException {
+
+        final int length = value.length();
+        
+        for (int i = 0; i < length; i++) {
+            
+            if (buffer.length - position < MAX_CHAR_LENGTH) {
+                drain();
+            }
+            
+            final char ch = value.charAt(i);
+            
+            if (ch < 0x80) {
+
+                if (escape && (ch < 0x20 || ch == '"' || ch == '\\' || ch == 0x7f)) {
+                    writeEscape(ch);
+                    
+                } else {
+                    buffer[position++] = (byte) ch;
+                }
+                
+            } else if (ch < 0x800) {
+                buffer[position++] = (byte) (0xc0 | (ch >> 6));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3f));
+                
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                
+                final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                
+            } else if (Character.isSurrogate(ch)) {
+                // unpaired surrogate, replaced as String#getBytes does
+                buffer[position++] = '?';
+                
+            } else {
+                buffer[position++] = (byte) (0xe0 | (ch >> 12));
+                buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3f));
+            }
+        }
+    }
+    
+    private void writeEscape(final char ch) {
+        
+        buffer[position++] = '\\';
+        
+        switch (ch) {
+        case 0x9:
+            buffer[position++] = 't';
+            break;
+            
+        case 0x8:
+            buffer[position++] = 'b';
+            break;
+            
+        case 0xa:
+            buffer[position++] = 'n';
+            break;
+            
+        case 0xd:
+            buffer[position++] = 'r';
+            break;
+            
+        case 0xc:
+            buffer[position++] = 'f';
+            break;
+            
+        case '"':
+        case '\\':
+            buffer[position++] = (byte) ch;
+            break;
+            
+        default:
+            buffer[position++] = 'u';
+            buffer[position++] = '0';
+            buffer[position++] = '0';
+            buffer[position++] = HEX[(ch >> 4) & 0xf];
+            buffer[position++] = HEX[ch & 0xf];
+        }
+    }
+    
+    private void drain() throws IOException {
+        
+        if (position == 0) {
+            return;
+        }
+        
+        if (os != null) {
+            os.write(buffer, 0, position);
+            
+        } else {
+            wrapped.clear();
+            wrapped.limit(position);
+            
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        }
+        
+        position = 0;
+    }
+}
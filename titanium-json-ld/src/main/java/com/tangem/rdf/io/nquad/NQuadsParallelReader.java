@@ -0,0 +1,329 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tangem.rdf.io.nquad;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import com.tangem.rdf.Rdf;
+import com.tangem.rdf.RdfDataset;
+import com.tangem.rdf.RdfNQuad;
+import com.tangem.rdf.io.RdfNQuadReader;
+import com.tangem.rdf.io.error.RdfReaderException;
+
+/**
+ * Reads an N-Quads file in parallel. The file is split into chunks at line
+ * boundaries, the chunks are memory mapped and parsed on a {@link ForkJoinPool}.
+ * Statements are delivered in the file order and errors report the line number
+ * in the file. At most twice the pool parallelism chunks are kept in memory.
+ * 
+ * @see <a href="https://www.w3.org/TR/n-quads/">RDF 1.1. N-Quads</a>
+ *
+ */
+public final class NQuadsParallelReader implements RdfNQuadReader, Closeable {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    
+    private static final int BOUNDARY_BUFFER_SIZE = 4096;
+    
+    private final File file;
+    
+    private final ForkJoinPool pool;
+    
+    private final int chunkSize;
+    
+    private RdfDataset dataset;
+    
+    // reading state
+    private RandomAccessFile input;
+    private List<Long> boundaries;
+    private Deque<ForkJoinTask<Chunk>> pending;
+    private int submitted;
+    private int lines;
+    
+    private Chunk chunk;
+    private int statement;
+    
+    public NQuadsParallelReader(final File file) {
+        this(file, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a new reader.
+     * 
+     * @param file to read, UTF-8 encoded N-Quads
+     * @param pool to parse the chunks on
+     * @param chunkSize approximate size of a chunk in bytes, a chunk always ends at a line boundary
+     */
+    public NQuadsParallelReader(final File file, final ForkJoinPool pool, final int chunkSize) {
+        
+        if (file == null || pool == null) {
+            throw new IllegalArgumentException();
+        }
+        
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero but was [" + chunkSize + "].");
+        }
+        
+        this.file = file;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.dataset = null;
+    }
+    
+    /**
+     * Reads all remaining statements into a dataset.
+     */
+    @Override
+    public RdfDataset readDataset() throws IOException, RdfReaderException {
+
+        if (dataset != null) {
+            return dataset;
+        }
+        
+        final RdfDataset result = Rdf.createDataset();
+        
+        read(result::add);
+        
+        dataset = result;
+        return dataset;
+    }
+
+    /**
+     * Reads all remaining statements. The consumer is called on the calling thread, in the
+     * file order, while the next chunks are being parsed.
+     * 
+     * @param consumer accepting the statements
+     * @throws IOException if the file cannot be read
+     * @throws RdfReaderException if the file is not valid N-Quads
+     */
+    @Override
+    public void read(final Consumer<RdfNQuad> consumer) throws IOException, RdfReaderException {
+        
+        if (consumer == null) {
+            throw new IllegalArgumentException();
+        }
+
+        do {
+            if (chunk != null) {
+                while (statement < chunk.statements.size()) {
+                    consumer.accept(chunk.statements.get(statement++));
+                }
+            }
+        } while (nextChunk());
+    }
+    
+    @Override
+    public RdfNQuad readNQuad() throws IOException, RdfReaderException {
+        
+        while (chunk == null || statement == chunk.statements.size()) {
+            if (!nextChunk()) {
+                return null;
+            }
+        }
+        
+        return chunk.statements.get(statement++);
+    }
+    
+    /**
+     * Cancels pending chunks and closes the file. The file is closed automatically 
+     * when the last statement has been read.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (pending != null) {
+            pending.forEach(task -> task.cancel(true));
+            pending.clear();
+        }
+        
+        chunk = null;
+        
+        if (input != null) {
+            input.close();
+            input = null;
+        }
+    }
+    
+    /**
+     * Moves to the next parsed chunk, the current chunk must be fully consumed.
+     * 
+     * @return <code>false</code> if there are no more chunks
+     */
+    private boolean nextChunk() throws IOException, RdfReaderException {
+
+        if (chunk != null) {
+            
+            // statements preceding an error have been consumed
+            if (chunk.error != null) {
+                final RdfReaderException error = NQuadsReader.withLine(lines + chunk.lines, chunk.error);
+                close();
+                throw error;
+            }
+            
+            lines += chunk.lines - 1;
+            chunk = null;
+        }
+        
+        if (boundaries == null) {
+            input = new RandomAccessFile(file, "r");
+            boundaries = split(input.getChannel());
+            pending = new ArrayDeque<>();
+            submitted = 0;
+        }
+        
+        if (input == null) {
+            return false;
+        }
+        
+        final FileChannel channel = input.getChannel();
+        
+        final int window = Math.max(2, pool.getParallelism() * 2);
+
+        while (submitted < boundaries.size() - 1 && pending.size() < window) {
+            
+            final long start = boundaries.get(submitted);
+            final long end = boundaries.get(submitted + 1);
+            
+            pending.add(pool.submit(() -> parse(channel, start, end)));
+            submitted++;
+        }
+        
+        if (pending.isEmpty()) {
+            close();
+            return false;
+        }
+        
+        try {
+            chunk = pending.poll().get();
+            statement = 0;
+            
+            return true;
+
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+            
+        } catch (ExecutionException e) {
+            close();
+            
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RdfReaderException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns chunk boundaries, a chunk starts at the beginning of a line.
+     */
+    private List<Long> split(final FileChannel channel) throws IOException {
+
+        final long size = channel.size();
+
+        final List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        
+        final ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+        
+        long position = chunkSize;
+        
+        while (position < size) {
+            
+            long boundary = -1;
+            
+            while (boundary == -1 && position < size) {
+                
+                buffer.clear();
+                
+                final int count = channel.read(buffer, position);
+                
+                if (count <= 0) {
+                    break;
+                }
+
+                for (int i = 0; i < count; i++) {
+                    if (buffer.get(i) == '\n') {
+                        boundary = position + i + 1;
+                        break;
+                    }
+                }
+                
+                position += count;
+            }
+            
+            if (boundary == -1 || boundary >= size) {
+                break;
+            }
+            
+            boundaries.add(boundary);
+            position = boundary + chunkSize;
+        }
+        
+        boundaries.add(size);
+        
+        return boundaries;
+    }
+
+    private static Chunk parse(final FileChannel channel, final long start, final long end) throws IOException {
+
+        final CharBuffer chars = StandardCharsets.UTF_8.decode(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+        
+        final NQuadsReader reader = new NQuadsReader(new Tokenizer(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining()));
+        
+        final Chunk chunk = new Chunk();
+        
+        try {
+            RdfNQuad nquad;
+            
+            while ((nquad = reader.next()) != null) {
+                chunk.statements.add(nquad);
+            }
+            
+        } catch (RdfReaderException e) {
+            chunk.error = e;
+        }
+        
+        chunk.lines = reader.line();
+        
+        return chunk;
+    }
+    
+    private static final class Chunk {
+        
+        final List<RdfNQuad> statements = new ArrayList<>();
+        
+        // the last line number reached
+        int lines;
+        
+        RdfReaderException error;
+    }
+}
@@ -25,7 +25,7 @@ import com.tangem.rdf.RdfLiteral;
 import com.tangem.rdf.RdfNQuad;
 import com.tangem.rdf.RdfResource;
 import com.tangem.rdf.RdfValue;
-import com.tangem.rdf.io.RdfReader;
+import com.tangem.rdf.io.RdfNQuadReader;
 import com.tangem.rdf.io.error.RdfReaderException;
 import com.tangem.rdf.io.nquad.Tokenizer;
 import com.tangem.rdf.io.nquad.Tokenizer.Token;
@@ -36,17 +36,24 @@ import com.tangem.rdf.io.nquad.Tokenizer.TokenType;
  * @see <a href="https://www.w3.org/TR/n-quads/">RDF 1.1. N-Quads</a>
  *
  */
-public final class NQuadsReader implements RdfReader {
+public final class NQuadsReader implements RdfNQuadReader {
 
     private final com.tangem.rdf.io.nquad.Tokenizer tokenizer;
     
     private RdfDataset dataset;
     
     public NQuadsReader(final Reader reader) {
-        this.tokenizer = new com.tangem.rdf.io.nquad.Tokenizer(reader);
+        this(new com.tangem.rdf.io.nquad.Tokenizer(reader));
+    }
+    
+    NQuadsReader(final Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
         this.dataset = null;
     }
     
+    /**
+     * Reads all remaining statements into a dataset.
+     */
     @Override
     public RdfDataset readDataset() throws RdfReaderException {
 
@@ -54,8 +61,41 @@ public final class NQuadsReader implements RdfReader {
             return dataset;
         }
         
-        dataset = Rdf.createDataset();
+        final RdfDataset result = Rdf.createDataset();
         
+        try {
+            RdfNQuad nquad;
+            
+            while ((nquad = next()) != null) {
+                result.add(nquad);
+            }
+            
+        } catch (RdfReaderException e) {
+            throw withLine(tokenizer.line(), e);
+        }
+
+        dataset = result;
+        return dataset;
+    }
+    
+    @Override
+    public RdfNQuad readNQuad() throws RdfReaderException {
+        try {
+            return next();
+            
+        } catch (RdfReaderException e) {
+            throw withLine(tokenizer.line(), e);
+        }
+    }
+    
+    /**
+     * Reads the next statement, errors are reported without a line number.
+     * 
+     * @return the next statement or <code>null</code> if the input has been read
+     * @throws RdfReaderException if the input is not valid
+     */
+    RdfNQuad next() throws RdfReaderException {
+
         while (tokenizer.hasNext()) {
 
             // skip EOL and whitespace
@@ -67,10 +107,23 @@ public final class NQuadsReader implements RdfReader {
                 continue;
             }
             
-            dataset.add(reaStatement());
+            return reaStatement();
         }
-
-        return dataset;
+        
+        return null;
+    }
+    
+    /**
+     * Returns the line number of the current token.
+     * 
+     * @return the line number, the first line is <code>1</code>
+     */
+    int line() {
+        return tokenizer.line();
+    }
+    
+    static final RdfReaderException withLine(final int line, final RdfReaderException e) {
+        return new RdfReaderException("Line " + line + ": " + e.getMessage(), e);
     }
     
     private RdfNQuad reaStatement() throws RdfReaderException {
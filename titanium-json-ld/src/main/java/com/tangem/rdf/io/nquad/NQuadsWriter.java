@@ -124,7 +124,11 @@ public class NQuadsWriter implements RdfWriter {
     
     public static final String escape(String value) {
         
-        final StringBuilder escaped = new StringBuilder();
+        if (!needsEscape(value)) {
+            return value;
+        }
+        
+        final StringBuilder escaped = new StringBuilder(value.length() + 16);
         
         int[] codePoints = value.codePoints().toArray();
 
@@ -161,6 +165,19 @@ public class NQuadsWriter implements RdfWriter {
         return escaped.toString();
     }
 
+    private static final boolean needsEscape(final String value) {
+        
+        for (int i = 0; i < value.length(); i++) {
+            
+            final char ch = value.charAt(i);
+            
+            if (ch < 0x20 || ch == '"' || ch == '\\' || ch == 0x7f) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void writeIri(String iri) throws IOException {
         
         if (iri == null) {
@@ -15,7 +15,6 @@
  */
 package com.tangem.rdf.io.nquad;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Arrays;
@@ -24,20 +23,67 @@ import com.tangem.rdf.io.error.RdfReaderException;
 import com.tangem.rdf.lang.RdfAlphabet;
 
 /**
+ * A scanner reading N-Quads tokens directly from a character buffer. Token
+ * values are sliced out of the buffer, a token is always kept in the buffer
+ * as a whole, the buffer grows if necessary.
  * 
  * @see <a href="https://www.w3.org/TR/n-quads/#sec-grammar">N-Quads Grammar</a>
  *
  */
 final class Tokenizer {
 
-    private static final int BUFFER_SIZE = 8192*2;
+    private static final int BUFFER_SIZE = 8192*8;
     
     private final Reader reader;
     
+    private char[] buffer;
+    
+    // next character to read
+    private int position;
+    
+    // end of valid characters
+    private int limit;
+    
+    // start of the token being read, -1 if there is none
+    private int mark;
+    
+    private boolean eof;
+
+    // line of the scan position and line of the current token
+    private int line;
+    private int tokenLine;
+
+    // used only if a value contains escape sequences
+    private final StringBuilder escaped;
+    
     private Token next;
     
     protected Tokenizer(Reader reader) {
-        this.reader = new BufferedReader(reader, BUFFER_SIZE);
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+        this.position = 0;
+        this.limit = 0;
+        this.mark = -1;
+        this.eof = false;
+        this.line = 1;
+        this.tokenLine = 1;
+        this.escaped = new StringBuilder();
+        this.next = null;
+    }
+
+    /**
+     * Create a new tokenizer reading the given characters only.
+     */
+    protected Tokenizer(char[] chars, int offset, int length) {
+        this.reader = null;
+        this.buffer = chars;
+        this.position = offset;
+        this.limit = offset + length;
+        this.mark = -1;
+        this.eof = true;
+        this.line = 1;
+        this.tokenLine = 1;
+        this.escaped = new StringBuilder();
         this.next = null;
     }
     
@@ -63,70 +109,76 @@ final class Tokenizer {
         }
         return false;
     }     
+
+    /**
+     * Returns the line number of the current token, the first line is <code>1</code>.
+     * 
+     * @return the line number
+     */
+    public int line() {
+        return tokenLine;
+    }
     
     private Token doRead() throws RdfReaderException {
         
-        try {
-            int ch = reader.read();
-            
-            if (ch == -1) {
-                return Token.EOI;
-            }
-            
-            // WS
-            if (com.tangem.rdf.lang.RdfAlphabet.WHITESPACE.test(ch)) {
-                return skipWhitespaces();  
-            }
-            
-            // Comment
-            if (ch == '#') {
-                return readComment();
-            }
-            
-            if (ch == '<') {
-                return readIriRef();
-            }
+        tokenLine = line;
+        
+        int ch = read();
+        
+        if (ch == -1) {
+            return Token.EOI;
+        }
+        
+        // WS
+        if (ch == 0x20 || ch == 0x09) {
+            skipWhitespaces();
+            return Token.WS;
+        }
 
-            if (ch == '"') {
-                return readString();
-            }
-            
-            if (ch == '.') {
-                return Token.EOS;
-            }
-            
-            if (com.tangem.rdf.lang.RdfAlphabet.EOL.test(ch)) {
-                return skipEol();
-            }
-            
-            if (ch == '@') {
-                return readLangTag();
-            }
+        if (ch == '<') {
+            return readIriRef();
+        }
+
+        if (ch == '"') {
+            return readString();
+        }
+
+        if (ch == '_') {
+            return readBlankNode();
+        }
+        
+        if (ch == '.') {
+            return Token.EOS;
+        }
+        
+        if (ch == 0x0A || ch == 0x0D) {
+            skipEol(ch);
+            return Token.EOL;
+        }
+        
+        // Comment
+        if (ch == '#') {
+            return readComment();
+        }
+        
+        if (ch == '@') {
+            return readLangTag();
+        }
+        
+        if (ch == '^') {
             
-            if (ch == '_') {
-                return readBlankNode();
-            }
+            ch = read();
             
-            if (ch == '^') {
-                
-                ch = reader.read();
-                
-                if ('^' != ch) {
-                    unexpected(ch, "^");
-                }
-                return Token.LITERAL_DATA_TYPE;
+            if ('^' != ch) {
+                unexpected(ch, "^");
             }
-
-            unexpected(ch, "\\t", "\\n", "\\r", "^", "@", "SPACE", ".", "<", "_", "\"", "#");
-            
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+            return Token.LITERAL_DATA_TYPE;
         }
-        
-        throw new IllegalStateException();
+
+        return unexpected(ch, "\\t", "\\n", "\\r", "^", "@", "SPACE", ".", "<", "_", "\"", "#");
     }
     
-    private static final void unexpected(int actual, String ...expected) throws RdfReaderException {
+    private static final <T> T unexpected(int actual, String ...expected) throws RdfReaderException {
         throw new RdfReaderException(
                         actual != -1 
                             ? "Unexpected character [" + (char)actual  + "] expected " +  Arrays.toString(expected) + "." 
@@ -134,208 +186,184 @@ final class Tokenizer {
                             );
     }
     
-    private Token skipWhitespaces() throws RdfReaderException {
-
-        try {
-            reader.mark(1);
-            int ch = reader.read();
-            
-            while (com.tangem.rdf.lang.RdfAlphabet.WHITESPACE.test(ch)) {
-                reader.mark(1);
-                ch = reader.read();
-            }
-            
-            reader.reset();
-
-            return Token.WS;
-            
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+    private void skipWhitespaces() throws RdfReaderException {
+        
+        int ch = peek();
+        
+        while (ch == 0x20 || ch == 0x09) {
+            position++;
+            ch = peek();
         }
     }
 
-    private Token skipEol() throws RdfReaderException {
+    private void skipEol(int ch) throws RdfReaderException {
 
-        try {
-            reader.mark(1);
-            int ch = reader.read();
+        while (true) {
             
-            while (com.tangem.rdf.lang.RdfAlphabet.EOL.test(ch)) {
-                reader.mark(1);
-                ch = reader.read();
+            // CR LF is counted as one line break
+            if (ch == 0x0A || (ch == 0x0D && peek() != 0x0A)) {
+                line++;
             }
             
-            reader.reset();
-
-            return Token.EOL;
+            ch = peek();
             
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
+            if (ch != 0x0A && ch != 0x0D) {
+                break;
+            }
+            position++;
         }
     }
 
     private Token readIriRef() throws RdfReaderException {
 
-        try {
-
-            StringBuilder value = new StringBuilder();
-            
-            int ch = reader.read();
+        mark = position;
+        escaped.setLength(0);
+        
+        boolean escape = false;
+        
+        int ch = read();
+        
+        while (ch != '>') {
+            
+            if (ch <= 0x20
+                 || ch == '<'
+                 || ch == '"'
+                 || ch == '{'
+                 || ch == '}'
+                 || ch == '|'
+                 || ch == '^'
+                 || ch == '`'
+                    ) {
+                unexpected(ch, ">");
+            }
             
-            while (ch != '>'  && ch != -1) {
+            if (ch == '\\') {
                 
-                if ((0x00 <= ch && ch <= 0x20)
-                     || ch == '<'
-                     || ch == '"'
-                     || ch == '{'
-                     || ch == '}'
-                     || ch == '|'
-                     || ch == '^'
-                     || ch == '`'
-                        ) {
-                    unexpected(ch, ">");
+                if (!escape) {
+                    escaped.append(buffer, mark, position - mark - 1);
+                    escape = true;
                 }
-                
-                if (ch == '\\') {
 
-                    readIriEscape(value);
-                    
-                } else {
-                    value.append((char)ch);
-                }
-                ch = reader.read();
+                readIriEscape();
+                
+            } else if (escape) {
+                escaped.append((char)ch);
             }
             
-            if (ch == -1) {
-                unexpected(ch);
-            }
+            ch = read();
+        }
 
-            return new Token(TokenType.IRI_REF, value.toString());
-            
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }        
+        if (escape) {
+            mark = -1;
+            return new Token(TokenType.IRI_REF, escaped.toString());
+        }
+
+        return new Token(TokenType.IRI_REF, value(position - 1));
     }
     
     private Token readString() throws RdfReaderException {
-        try {
 
-            StringBuilder value = new StringBuilder();
+        mark = position;
+        escaped.setLength(0);
+        
+        boolean escape = false;
+        
+        int ch = read();
+        
+        while (ch != '"') {
             
-            int ch = reader.read();
+            if (ch == -1 || ch == 0xa || ch == 0xd) {
+                unexpected(ch);
+            }
             
-            while (ch != '"' && ch != -1) {
+            if (ch == '\\') {
                 
-                if (ch == 0x22
-                     || ch == 0xa
-                     || ch == 0xd
-                        ) {
-                    unexpected(ch);
+                if (!escape) {
+                    escaped.append(buffer, mark, position - mark - 1);
+                    escape = true;
                 }
-                
-                if (ch == '\\') {
 
-                    readEscape(value);
-                    
-                } else {
-                    value.appendCodePoint(ch);
-                }
-                ch = reader.read();
+                readEscape();
+                
+            } else if (escape) {
+                escaped.append((char)ch);
             }
             
-            if (ch == -1) {
-                unexpected(ch);
-            }
+            ch = read();
+        }
+        
+        if (escape) {
+            mark = -1;
+            return new Token(TokenType.STRING_LITERAL_QUOTE, escaped.toString());
+        }
 
-            return new Token(TokenType.STRING_LITERAL_QUOTE, value.toString());
-            
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }    
+        return new Token(TokenType.STRING_LITERAL_QUOTE, value(position - 1));
     }
 
     private Token readLangTag() throws RdfReaderException {
-        try {
-
-            StringBuilder value = new StringBuilder();
-            
-            int ch = reader.read();
-            
-            if (!com.tangem.rdf.lang.RdfAlphabet.ASCII_ALPHA.test(ch) || ch == -1) {
-                unexpected(ch);
-            }
-            value.append((char)ch);
-            
-            reader.mark(1);
-            ch = reader.read();
-            
-            while (com.tangem.rdf.lang.RdfAlphabet.ASCII_ALPHA.test(ch)) {
-                
-                value.append((char)ch);
-                
-                reader.mark(1);
-                ch = reader.read();
-            }
-            
-            if (ch == -1) {
-                unexpected(ch);
-            }
-            
-            boolean delim = false;
-            
-            while (com.tangem.rdf.lang.RdfAlphabet.ASCII_ALPHA_NUM.test(ch) || ch == '-') {
-
-                value.append((char)ch);
-                
-                reader.mark(1);
-                ch = reader.read();
 
-                delim = ch == '-';
-            }
-            
-            if (ch == -1 || delim) {
-                unexpected(ch);
-            }
-            
-            reader.reset();
-
-            return new Token(TokenType.LANGTAG, value.toString());
-            
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }    
+        mark = position;
+        
+        int ch = read();
+        
+        if (!isAsciiAlpha(ch)) {
+            unexpected(ch);
+        }
+        
+        ch = peek();
+        
+        while (isAsciiAlpha(ch)) {
+            position++;
+            ch = peek();
+        }
+        
+        boolean delim = false;
+        
+        while (isAsciiAlpha(ch) || isAsciiDigit(ch) || ch == '-') {
+            delim = ch == '-';
+            position++;
+            ch = peek();
+        }
+        
+        if (ch == -1 || delim) {
+            unexpected(ch);
+        }
+        
+        return new Token(TokenType.LANGTAG, value(position));
     }
     
-    private void readIriEscape(final StringBuilder value) throws RdfReaderException, IOException {
-        int ch = reader.read();
+    private void readIriEscape() throws RdfReaderException {
+        
+        int ch = read();
     
         if (ch == 'u') {
          
-            value.append(readUnicode());
+            readUnicode(4);
     
         } else if (ch == 'U') {
             
-            value.append(readUnicode64());
+            readUnicode(8);
             
         } else {
             unexpected(ch);
         }
     }
     
-    private void readEscape(final StringBuilder value) throws RdfReaderException, IOException {
-        int ch = reader.read();
+    private void readEscape() throws RdfReaderException {
+        
+        int ch = read();
         
         if (ch == 't' || ch == 'b' || ch == 'n' || ch == 'r' || ch == 'f' || ch == '\'' || ch == '\\' || ch =='"') {
 
-            value.appendCodePoint(unescape(ch));
+            escaped.append((char)unescape(ch));
 
         } else if (ch == 'u') {
 
-            value.append(readUnicode());
+            readUnicode(4);
             
         } else if (ch == 'U') {
             
-            value.append(readUnicode64());
+            readUnicode(8);
             
         } else {
             unexpected(ch);
@@ -344,95 +372,59 @@ final class Tokenizer {
 
     private Token readBlankNode() throws RdfReaderException {
         
-        try {
+        int ch = read();
 
-            StringBuilder value = new StringBuilder();
-            
-            int ch = reader.read();
-    
-            if (ch != ':' || ch == -1) {
-                unexpected(ch);
-            }
-            
-            ch = reader.read();
-            
-            if (com.tangem.rdf.lang.RdfAlphabet.PN_CHARS_U.negate().and(com.tangem.rdf.lang.RdfAlphabet.ASCII_DIGIT.negate()).test(ch) || ch == -1) {
-                unexpected(ch);
-            }
-            
-            value.append((char)ch);
-            
-            reader.mark(1);
-            ch = reader.read();
-            
-            boolean delim = false;
-            
-            while (com.tangem.rdf.lang.RdfAlphabet.PN_CHARS.test(ch) || ch == '.') {
-
-                delim = ch == '.';
-                
-                value.append((char)ch);
-                
-                if (delim) {
-                    reader.reset();
-                    reader.mark(2);
-                    reader.skip(1);
-                } else {
-                    reader.mark(1);
-                }
-                                
-                ch = reader.read();
-                
-            }
-            
-            if (ch == -1) {
-                unexpected(ch);
-            }
-            
-            reader.reset();
-            
-            if (delim && value.length() > 0) {
-                value.setLength(value.length() - 1);
-            }
+        if (ch != ':') {
+            unexpected(ch);
+        }
 
-            return new Token(TokenType.BLANK_NODE_LABEL, value.toString());
-            
-        } catch (IOException e) {
-            throw new RdfReaderException(e);
-        }    
-    }
-    
-    private char[] readUnicode() throws RdfReaderException, IOException {
+        mark = position;
         
-        char[] code = new char[4];
+        ch = read();
         
-        code[0] = readHex8();
-        code[1] = readHex8();
-        code[2] = readHex8();
-        code[3] = readHex8();
-
-        return Character.toChars(Integer.parseInt(String.valueOf(code), 16));
-    }
-
-    private char readHex8()  throws IOException, RdfReaderException {
+        if (!isPnCharsU(ch) && !isAsciiDigit(ch)) {
+            unexpected(ch);
+        }
         
-        int hex = reader.read();
+        ch = peek();
         
-        if (com.tangem.rdf.lang.RdfAlphabet.HEX.negate().test(hex)) {
-            unexpected(hex, "0-9", "a-f", "A-F");
+        while (isPnChars(ch) || ch == '.') {
+            position++;
+            ch = peek();
+        }
+        
+        if (ch == -1) {
+            unexpected(ch);
+        }
+        
+        // a label cannot end with a dot
+        while (buffer[position - 1] == '.') {
+            position--;
         }
-        return (char)hex;
-    }
-
-    private char[] readUnicode64()  throws IOException, RdfReaderException {
 
-        char[] code = new char[8];
+        return new Token(TokenType.BLANK_NODE_LABEL, value(position));
+    }
+    
+    private void readUnicode(final int length) throws RdfReaderException {
+        
+        int code = 0;
+        
+        for (int i = 0; i < length; i++) {
+            
+            final int hex = read();
+            
+            if (hex == -1 || !RdfAlphabet.HEX.test(hex)) {
+                unexpected(hex, "0-9", "a-f", "A-F");
+            }
 
-        for (int i=0; i < code.length; i++) {
-            code[i] = readHex8();            
+            code = (code << 4) + Character.digit(hex, 16);
+        }
+        
+        if (!Character.isValidCodePoint(code)) {
+            throw new RdfReaderException("Invalid unicode code point [" + Integer.toHexString(code) + "].");
         }
         
-        return Character.toChars(Integer.parseInt(String.valueOf(code), 16));
+        escaped.appendCodePoint(code);
     }
 
     private static final int unescape(int symbol) {
@@ -455,32 +447,112 @@ final class Tokenizer {
     }
 
     private Token readComment() throws RdfReaderException {
-        try {
 
-            StringBuilder value = new StringBuilder();
-            
-            int ch = reader.read();
+        mark = position;
+        
+        int ch = peek();
+        
+        while (ch != -1 && ch != 0x0A && ch != 0x0D) {
+            position++;
+            ch = peek();
+        }
+        
+        return new Token(TokenType.COMMENT, value(position));
+    }
+    
+    public boolean hasNext() throws RdfReaderException {
+        if (next == null) {
+            next = doRead();
+        }
+        return TokenType.END_OF_INPUT != next.getType();
+    }
+    
+    private String value(final int end) {
+        
+        final String value = new String(buffer, mark, end - mark);
+        
+        mark = -1;
+        return value;
+    }
+    
+    private int read() throws RdfReaderException {
+        
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        
+        return buffer[position++];
+    }
+
+    private int peek() throws RdfReaderException {
+        
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        
+        return buffer[position];
+    }
+    
+    private boolean fill() throws RdfReaderException {
+
+        if (eof) {
+            return false;
+        }
+        
+        // keep the token being read
+        if (mark > 0) {
+            System.arraycopy(buffer, mark, buffer, 0, limit - mark);
+            position -= mark;
+            limit -= mark;
+            mark = 0;
+            
+        } else if (mark == -1) {
+            position = 0;
+            limit = 0;
+        }
+        
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        
+        try {
+            final int count = reader.read(buffer, limit, buffer.length - limit);
             
-            while (RdfAlphabet.EOL.negate().test(ch) && ch != -1) {
-                
-                value.appendCodePoint(ch);
-                ch = reader.read();
+            if (count == -1) {
+                eof = true;
+                return false;
             }
             
-            return new Token(TokenType.COMMENT, value.toString());
+            limit += count;
+            return true;
             
         } catch (IOException e) {
             throw new RdfReaderException(e);
-        }    
+        }
     }
     
-    public boolean hasNext() throws RdfReaderException {
-        if (next == null) {
-            next = doRead();
+    private static final boolean isAsciiAlpha(final int ch) {
+        return 'a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z';
+    }
+    
+    private static final boolean isAsciiDigit(final int ch) {
+        return '0' <= ch && ch <= '9';
+    }
+    
+    private static final boolean isPnCharsU(final int ch) {
+        if (ch < 0x80) {
+            return isAsciiAlpha(ch) || ch == '_' || ch == ':';
         }
-        return TokenType.END_OF_INPUT != next.getType();
+        return RdfAlphabet.PN_CHARS_U.test(ch);
     }
     
+    private static final boolean isPnChars(final int ch) {
+        if (ch < 0x80) {
+            return isAsciiAlpha(ch) || isAsciiDigit(ch) || ch == '_' || ch == ':' || ch == '-';
+        }
+        return RdfAlphabet.PN_CHARS.test(ch);
+    }
+
     protected static class Token {
         
         protected static final Token EOI = new Token(TokenType.END_OF_INPUT, null);
@@ -525,4 +597,3 @@ final class Tokenizer {
         END_OF_INPUT,
     }
 }
-
@@ -15,6 +15,10 @@
  */
 package com.tangem.rdf.spi;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.Collection;
@@ -53,10 +57,36 @@ public abstract class RdfProvider {
     
     public abstract RdfReader createReader(MediaType contentType, Reader reader) throws UnsupportedContentException;
 
+    /**
+     * Create a new reader of the raw content. Decodes the content as text 
+     * unless overridden to support binary formats.
+     * 
+     * @param contentType of the content
+     * @param is providing the content
+     * @return a new reader
+     * @throws UnsupportedContentException if the content type is not supported
+     */
+    public RdfReader createReader(MediaType contentType, InputStream is) throws UnsupportedContentException {
+        return createReader(contentType, new InputStreamReader(is));
+    }
+
     public abstract Collection<MediaType> canWrite();
     
     public abstract RdfWriter createWriter(MediaType contentType, Writer writer) throws UnsupportedContentException;
 
+    /**
+     * Create a new writer producing raw content. Encodes the content as text 
+     * unless overridden to support binary formats.
+     * 
+     * @param contentType of the content
+     * @param os to write the content to
+     * @return a new writer
+     * @throws UnsupportedContentException if the content type is not supported
+     */
+    public RdfWriter createWriter(MediaType contentType, OutputStream os) throws UnsupportedContentException {
+        return createWriter(contentType, new OutputStreamWriter(os));
+    }
+
     public abstract RdfGraph createGraph();
     
     public abstract RdfTriple createTriple(RdfResource subject, RdfResource predicate, RdfValue object);